@@ -0,0 +1,129 @@
+package com.vishal.manageMoney.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Compares two JMH JSON result files (java -jar benchmarks.jar ... -rf json) benchmark by benchmark, time and
+// allocation per operation side by side. A change counts only when it is beyond the threshold and the two
+// scores' error intervals do not overlap, so run-to-run noise is not reported as a regression.
+//
+//   java -cp target/benchmarks.jar com.vishal.manageMoney.bench.CompareWithBaseline \
+//        baseline/baseline.json target/current.json [thresholdPercent, default 10]
+//
+// Exits with status 2 when anything regressed, so it can gate a build.
+public final class CompareWithBaseline {
+
+    private static final String PACKAGE = "com.vishal.manageMoney.";
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private CompareWithBaseline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CompareWithBaseline <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(1);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        System.out.printf("%-72s %22s %22s %9s %24s  %s%n",
+                "Benchmark", "Baseline", "Current", "Change", "Alloc B/op (base > now)", "");
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-72s %22s %22s %9s %24s  new%n", entry.getKey(), "-", now.formatScore(), "",
+                        formatAllocation(null, now));
+                continue;
+            }
+            double change = (now.score - before.score) / before.score * 100;
+            // Lower is better for time per operation, higher for throughput
+            double worse = now.higherIsBetter() ? -change : change;
+            boolean significant = Math.abs(change) > threshold
+                    && Math.abs(now.score - before.score) > now.error + before.error;
+            String verdict = "";
+            if (significant) {
+                verdict = worse > 0 ? "REGRESSION" : "improved";
+            }
+            if (!Double.isNaN(before.allocation) && !Double.isNaN(now.allocation) && before.allocation > 0
+                    && (now.allocation - before.allocation) / before.allocation * 100 > threshold) {
+                verdict = verdict.isEmpty() ? "MORE ALLOCATION" : verdict + ", MORE ALLOCATION";
+            }
+            if (verdict.contains("REGRESSION") || verdict.contains("ALLOCATION")) {
+                regressions++;
+            }
+            System.out.printf("%-72s %22s %22s %+8.1f%% %24s  %s%n", entry.getKey(), before.formatScore(),
+                    now.formatScore(), change, formatAllocation(before, now), verdict);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-72s %22s %22s %9s %24s  not run%n", missing,
+                        baseline.get(missing).formatScore(), "-", "", "");
+            }
+        }
+        System.out.printf("%n%d of %d benchmarks regressed beyond %.0f%%%n", regressions, current.size(), threshold);
+        if (regressions > 0) {
+            System.exit(2);
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION);
+            Result result = new Result(
+                    run.path("mode").asText(),
+                    primary.path("score").asDouble(),
+                    primary.path("scoreError").asDouble(0),
+                    primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? Double.NaN : allocation.path("score").asDouble());
+            results.put(key(run), result);
+        }
+        return results;
+    }
+
+    // Benchmark name without the common package, followed by its parameters in name order
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText();
+        if (name.startsWith(PACKAGE)) {
+            name = name.substring(PACKAGE.length());
+        }
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        return params.isEmpty() ? name : name + " " + params;
+    }
+
+    private static String formatAllocation(Result before, Result now) {
+        String after = Double.isNaN(now.allocation) ? "-" : String.format("%,.0f", now.allocation);
+        if (before == null || Double.isNaN(before.allocation)) {
+            return after;
+        }
+        return String.format("%,.0f > %s", before.allocation, after);
+    }
+
+    private record Result(String mode, double score, double error, String unit, double allocation) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        String formatScore() {
+            return String.format("%,.1f +- %,.1f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.vishal.manageMoney.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.vishal.manageMoney.dto.ExpenseResponseDTO;
+import com.vishal.manageMoney.dto.LoanResponseDTO;
+import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.entity.Income;
+import com.vishal.manageMoney.entity.Investment;
+import com.vishal.manageMoney.entity.Loan;
+import com.vishal.manageMoney.utils.Money;
+
+// Deterministic test data shaped like real rows, so every run and every baseline measures the same inputs
+public final class Fixtures {
+
+    private static final String[] CATEGORIES = { "Food", "Travel", "Bills", "Shopping", "Health", "Rent" };
+    private static final String[] DESCRIPTIONS = { "Swiggy dinner with friends", "Uber ride to the airport",
+            "Electricity bill for March", "Amazon order: headphones", "Pharmacy", "Rent for the flat" };
+    private static final String[] PAYMENT_MODES = { "cash", "card", "upi" };
+    private static final LocalDate START = LocalDate.of(2022, 1, 1);
+
+    private Fixtures() {
+    }
+
+    // Configured the way Spring Boot configures the application's mapper: ISO dates, java.time and Jdk8 modules
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    public static Expense expense(long id) {
+        Random random = new Random(id);
+        Expense expense = new Expense();
+        expense.setId(id);
+        expense.setDescription(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        expense.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        expense.setAmount(Money.ofMinor(100 + random.nextInt(5_000_000)));
+        expense.setDate(START.plusDays(random.nextInt(1500)));
+        expense.setPaymentMode(PAYMENT_MODES[random.nextInt(PAYMENT_MODES.length)]);
+        return expense;
+    }
+
+    public static Income income(long id) {
+        Random random = new Random(id);
+        Income income = new Income();
+        income.setId(id);
+        income.setCategory("Salary");
+        income.setDescription("Monthly salary credit");
+        income.setAmount(Money.ofMinor(5_000_000 + random.nextInt(10_000_000)));
+        income.setDate(START.plusDays(random.nextInt(1500)));
+        income.setSource("Employer");
+        return income;
+    }
+
+    public static Investment investment(long id) {
+        Random random = new Random(id);
+        Investment investment = new Investment();
+        investment.setId(id);
+        investment.setType("Mutual Fund");
+        investment.setInstitution("Index fund SIP");
+        investment.setDescription("Monthly SIP");
+        investment.setAmount(Money.ofMinor(100_000 + random.nextInt(2_000_000)));
+        investment.setDate(START.plusDays(random.nextInt(1500)));
+        return investment;
+    }
+
+    public static Loan loan(long id) {
+        Random random = new Random(id);
+        Loan loan = new Loan();
+        loan.setId(id);
+        loan.setType("Home");
+        loan.setLender("State Bank");
+        loan.setDescription("Home loan for the flat");
+        loan.setPrincipal(Money.ofMinor(100_000_000 + random.nextInt(500_000_000)));
+        loan.setInterestRate(8.5 + random.nextInt(300) / 100.0);
+        loan.setEmi(Money.ofMinor(2_000_000 + random.nextInt(5_000_000)));
+        LocalDate startDate = START.plusDays(random.nextInt(1500));
+        loan.setStartDate(startDate);
+        loan.setEndDate(startDate.plusYears(20));
+        return loan;
+    }
+
+    public static List<ExpenseResponseDTO> expenseResponses(int count) {
+        List<ExpenseResponseDTO> responses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            responses.add(new ExpenseResponseDTO(expense(i)));
+        }
+        return responses;
+    }
+
+    public static List<LoanResponseDTO> loanResponses(int count) {
+        List<LoanResponseDTO> responses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Loan loan = loan(i);
+            responses.add(new LoanResponseDTO(loan.getId(), loan.getType(), loan.getLender(), loan.getDescription(),
+                    loan.getPrincipal(), loan.getInterestRate(), loan.getEmi(), loan.getStartDate(), loan.getEndDate()));
+        }
+        return responses;
+    }
+}
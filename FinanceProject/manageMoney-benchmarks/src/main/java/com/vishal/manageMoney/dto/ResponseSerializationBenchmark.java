@@ -0,0 +1,56 @@
+package com.vishal.manageMoney.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.vishal.manageMoney.bench.Fixtures;
+
+// Jackson encoding of a list response, the same writeValueAsBytes call CollectionVersionService makes on a
+// response cache miss. 10000 rows is a heavy user's full expense history.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({ "100", "10000" })
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private List<ExpenseResponseDTO> expenses;
+    private List<LoanResponseDTO> loans;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        expenses = Fixtures.expenseResponses(rows);
+        loans = Fixtures.loanResponses(rows);
+    }
+
+    @Benchmark
+    public byte[] expenseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(expenses);
+    }
+
+    @Benchmark
+    public byte[] loanList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loans);
+    }
+}
@@ -0,0 +1,84 @@
+package com.vishal.manageMoney.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vishal.manageMoney.bench.Fixtures;
+import com.vishal.manageMoney.dto.ExpenseResponseDTO;
+import com.vishal.manageMoney.dto.IncomeResponseDTO;
+import com.vishal.manageMoney.dto.InvestmentResponseDTO;
+import com.vishal.manageMoney.dto.LoanResponseDTO;
+import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.entity.Income;
+import com.vishal.manageMoney.entity.Investment;
+import com.vishal.manageMoney.entity.Loan;
+
+// Entity-to-DTO mapping of one row, as done after every create, update and get-by-id. Lives in the service
+// package to reach the package-private mappers; the services are built without repositories, which the mappers
+// never touch.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private ExpenseService expenseService;
+    private IncomeService incomeService;
+    private InvestmentService investmentService;
+    private LoanService loanService;
+
+    private Expense expense;
+    private Income income;
+    private Investment investment;
+    private Loan loan;
+
+    @Setup
+    public void setUp() {
+        expenseService = new ExpenseService(null, null, null, null, null, null);
+        incomeService = new IncomeService();
+        investmentService = new InvestmentService();
+        loanService = new LoanService(null, null, null, null, null);
+
+        expense = Fixtures.expense(1);
+        income = Fixtures.income(1);
+        investment = Fixtures.investment(1);
+        loan = Fixtures.loan(1);
+    }
+
+    @Benchmark
+    public ExpenseResponseDTO expenseResponseConstructor() {
+        return new ExpenseResponseDTO(expense);
+    }
+
+    @Benchmark
+    public ExpenseResponseDTO expenseConvertToResponseDTO() {
+        return expenseService.convertToResponseDTO(expense);
+    }
+
+    @Benchmark
+    public IncomeResponseDTO incomeMapToResponseDTO() {
+        return incomeService.mapToResponseDTO(income);
+    }
+
+    @Benchmark
+    public InvestmentResponseDTO investmentMapToResponseDTO() {
+        return investmentService.mapToResponseDTO(investment);
+    }
+
+    @Benchmark
+    public LoanResponseDTO loanMapToResponseDTO() {
+        return loanService.mapToResponseDTO(loan);
+    }
+}
@@ -0,0 +1,70 @@
+package com.vishal.manageMoney.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Token issue and verification as AuthController and AuthTokenFilter run them. Verification is measured with the
+// claims cache off (every call parses and checks the HMAC) and on (every call after the first is a cache hit).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class JwtUtilsBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationThatIsLongEnoughForHmacSha";
+    private static final long USER_ID = 42L;
+
+    @State(Scope.Benchmark)
+    public static class Issuing {
+        JwtUtils jwtUtils;
+
+        @Setup
+        public void setUp() {
+            jwtUtils = new JwtUtils(SECRET, 86_400_000, new JwtClaimsCache(0), new SimpleMeterRegistry());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Verifying {
+        @Param({ "0", "10000" })
+        int claimsCacheSize;
+
+        JwtUtils jwtUtils;
+        String token;
+
+        @Setup
+        public void setUp() {
+            jwtUtils = new JwtUtils(SECRET, 86_400_000, new JwtClaimsCache(claimsCacheSize), new SimpleMeterRegistry());
+            token = jwtUtils.generateJwtToken(USER_ID, "bench@example.com");
+        }
+    }
+
+    @Benchmark
+    public String generateJwtToken(Issuing state) {
+        return state.jwtUtils.generateJwtToken(USER_ID, "bench@example.com");
+    }
+
+    @Benchmark
+    public Boolean validateJwtToken(Verifying state) {
+        return state.jwtUtils.validateJwtToken(state.token);
+    }
+
+    @Benchmark
+    public Long getUserIdFromJwtToken(Verifying state) {
+        return state.jwtUtils.getUserIdFromJwtToken(state.token);
+    }
+}
@@ -0,0 +1,122 @@
+package com.vishal.manageMoney.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Admits at most one caller per pooled connection into getConnection(), first come first served, and holds the
+// permit until the connection is closed. On virtual threads there is no 200-worker cap in front of the pool, so
+// thousands of requests could otherwise pile into Hikari's wait; here they queue on a fair semaphore instead,
+// are measured, and fail after timeoutMs with the same exception type Hikari uses for its own timeout.
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final String poolName;
+    private final Timer waitTimer;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlledDataSource(HikariDataSource pool, long timeoutMs, MeterRegistry meterRegistry) {
+        super(pool);
+        this.permits = new Semaphore(pool.getMaximumPoolSize(), true);
+        this.timeoutMs = timeoutMs;
+        this.poolName = pool.getPoolName();
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("db.admission.wait")
+                .tag("pool", poolName)
+                .description("Time spent waiting for a database admission permit")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", permits, Semaphore::getQueueLength)
+                .tag("pool", poolName)
+                .description("Callers queued for a database admission permit")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.active", this, dataSource -> pool.getMaximumPoolSize() - permits.availablePermits())
+                .tag("pool", poolName)
+                .description("Callers holding a database admission permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(poolName + " - Interrupted while waiting for a connection", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            meterRegistry.counter("db.admission.rejected", "pool", poolName).increment();
+            throw new SQLTransientConnectionException(poolName + " - Database is busy, no connection within "
+                    + timeoutMs + "ms (" + permits.getQueueLength() + " waiting)");
+        }
+    }
+
+    // The permit goes back exactly once, on the first close()
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    permits.release();
+                }
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+    }
+
+    // Wraps the pool when admission control is on, otherwise returns it unchanged
+    public static DataSource wrap(HikariDataSource pool, boolean enabled, long timeoutMs, MeterRegistry meterRegistry) {
+        return enabled ? new AdmissionControlledDataSource(pool, timeoutMs, meterRegistry) : pool;
+    }
+}
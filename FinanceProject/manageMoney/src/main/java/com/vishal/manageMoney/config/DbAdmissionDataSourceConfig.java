@@ -0,0 +1,41 @@
+package com.vishal.manageMoney.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Single-database setup with admission control on (app.db.admission.enabled, the default in virtual-thread mode).
+// Replaces Boot's DataSource with the same Hikari pool behind an AdmissionControlledDataSource; the pool stays a
+// bean of its own so Boot's Hikari metrics keep working. With a replica, ReadReplicaDataSourceConfig wraps each
+// pool instead.
+@Configuration
+@ConditionalOnExpression("${app.db.admission.enabled:false} && '${app.datasource.replica.url:}'.isEmpty()")
+public class DbAdmissionDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Value("${app.db.admission.timeoutMs:5000}") long timeoutMs,
+                                 MeterRegistry meterRegistry) {
+        return new AdmissionControlledDataSource(primaryDataSource, timeoutMs, meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.vishal.manageMoney.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Spring Data already times every call on the JPA repositories as spring.data.repository.invocations; this
+// records the plain JDBC repositories (search index, collection versions) under the same name and tags, so one
+// query covers all of them. The registry is looked up on first use: a post-processor created this early must not
+// pull the registry in before its filters and percentile settings are applied.
+@Component
+public class RepositoryMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final String METRIC = "spring.data.repository.invocations";
+    private static final String REPOSITORY_PACKAGE = "com.vishal.manageMoney.repository.";
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Spring Data's own implementations carry @Repository too, hence the package check
+        ComposablePointcut pointcut = new ComposablePointcut(type -> type.getName().startsWith(REPOSITORY_PACKAGE)
+                && AnnotatedElementUtils.hasAnnotation(type, Repository.class));
+        MethodInterceptor timing = invocation -> {
+            long startedAt = System.nanoTime();
+            String state = "ERROR";
+            String exception = "None";
+            try {
+                Object result = invocation.proceed();
+                state = "SUCCESS";
+                return result;
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                Timer.builder(METRIC)
+                        .tag("repository", invocation.getMethod().getDeclaringClass().getSimpleName())
+                        .tag("method", invocation.getMethod().getName())
+                        .tag("state", state)
+                        .tag("exception", exception)
+                        .register(meterRegistry.getObject())
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(pointcut, timing);
+        // Outermost, so the time includes exception translation like Spring Data's own measurement
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
@@ -0,0 +1,117 @@
+package com.vishal.manageMoney.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.vishal.manageMoney.utils.RequestTiming;
+
+// Adds the time spent waiting for a connection and executing statements to the current RequestTiming, and counts
+// the statements. It sits under Hibernate and the JdbcTemplate repositories alike, so the figures cover every
+// round trip a request makes. Rows are read while executing (the driver fetches whole results by default), so
+// execution time includes the transfer.
+//
+// Creating a statement is timed as well. Under a LazyConnectionDataSourceProxy (replica routing) getConnection
+// returns at once and the pool wait happens when the first statement is prepared, so that is where it shows up.
+public class RequestTimingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> CREATE_STATEMENT = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    public RequestTimingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = super.getConnection();
+        RequestTiming.addDb(System.nanoTime() - startedAt, false);
+        return timing(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        RequestTiming.addDb(System.nanoTime() - startedAt, false);
+        return timing(connection);
+    }
+
+    private static Connection timing(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result;
+            if (CREATE_STATEMENT.contains(method.getName())) {
+                long startedAt = System.nanoTime();
+                try {
+                    result = invoke(connection, method, args);
+                } finally {
+                    RequestTiming.addDb(System.nanoTime() - startedAt, false);
+                }
+            } else {
+                result = invoke(connection, method, args);
+            }
+            if (result instanceof CallableStatement statement) {
+                return timing(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return timing(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return timing(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S timing(Class<S> type, S statement) {
+        return proxy(type, statement, (method, args) -> {
+            if (!EXECUTE.contains(method.getName())) {
+                return invoke(statement, method, args);
+            }
+            long startedAt = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                RequestTiming.addDb(System.nanoTime() - startedAt, true);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            // Identity semantics, so Hibernate can track the proxies in its resource registry
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.handle(method, args);
+        };
+        return (T) Proxy.newProxyInstance(RequestTimingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
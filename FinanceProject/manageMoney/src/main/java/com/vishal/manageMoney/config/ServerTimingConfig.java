@@ -0,0 +1,58 @@
+package com.vishal.manageMoney.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Opt-in (app.serverTiming.enabled): a Server-Timing header on every response breaking the request down into
+// auth (token verification and the optional user check), db (connection waits plus statement execution, with the
+// statement count), ser (JSON encoding) and total, readable in the browser's network panel or from edge logs.
+// Auth includes any database time it spends itself, so the parts can add up to more than the total.
+@Configuration
+@ConditionalOnProperty(name = "app.serverTiming.enabled", havingValue = "true")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${app.serverTiming.queryCountHeader:true}") boolean queryCountHeader) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(queryCountHeader));
+        // Ahead of Spring Security, so authentication is inside the measured span
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Wraps the DataSource Hibernate and the JdbcTemplates use, whichever configuration built it
+    @Bean
+    public static BeanPostProcessor requestTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (beanName.equals("dataSource") && bean instanceof DataSource dataSource) {
+                    return new RequestTimingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.set(i, new TimedJsonMessageConverter(jackson.getObjectMapper()));
+            }
+        }
+    }
+}
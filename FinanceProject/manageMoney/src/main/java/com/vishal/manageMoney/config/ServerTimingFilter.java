@@ -0,0 +1,100 @@
+package com.vishal.manageMoney.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.vishal.manageMoney.utils.RequestTiming;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+// Runs ahead of the security chain and times the whole request. Headers cannot change once the body starts going
+// out, so they are written just before that happens (first access to the body, an error or a redirect), or at the
+// end for a response without a body; "total" is therefore the time to the first byte.
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+    static final String QUERY_COUNT = "X-Query-Count";
+
+    private final boolean queryCountHeader;
+
+    public ServerTimingFilter(boolean queryCountHeader) {
+        this.queryCountHeader = queryCountHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TimedResponse timedResponse = new TimedResponse(response, RequestTiming.start());
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.writeTimingHeaders();
+            RequestTiming.clear();
+        }
+    }
+
+    private final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean written;
+
+        private TimedResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        private void writeTimingHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(SERVER_TIMING, timing.toHeader());
+            if (queryCountHeader) {
+                setHeader(QUERY_COUNT, Integer.toString(timing.getStatements()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeTimingHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeTimingHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeTimingHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeTimingHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeTimingHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeTimingHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.vishal.manageMoney.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishal.manageMoney.utils.RequestTiming;
+
+// Jackson converter that encodes into a buffer before writing, so the time spent serializing is measured on its
+// own and is known before the first byte (and with it the Server-Timing header) goes out
+public class TimedJsonMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long startedAt = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        try {
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return buffer;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+        } finally {
+            RequestTiming.addSerialization(System.nanoTime() - startedAt);
+        }
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,130 @@
+package com.vishal.manageMoney.config;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+// Reports the request execution mode at startup and, when requests run on virtual threads, watches for carrier
+// pinning: on JDK 21-23 a virtual thread that blocks inside synchronized code or a native frame holds its carrier,
+// and enough of those stall every request. Pinned periods above the threshold arrive as JFR
+// jdk.VirtualThreadPinned events; each is counted by the path it happened in (jdbc, bcrypt or other) and the first
+// one per code location is logged with its stack.
+// BCrypt already runs on PasswordHashingService's own platform threads, so a "bcrypt" count points at a caller
+// hashing outside that service.
+@Component
+public class VirtualThreadDiagnostics {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadDiagnostics.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean virtualThreads;
+    private final long pinnedThresholdMs;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+    private RecordingStream recording;
+
+    public VirtualThreadDiagnostics(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                    @Value("${app.virtualThreads.pinnedThresholdMs:20}") long pinnedThresholdMs,
+                                    MeterRegistry meterRegistry) {
+        this.virtualThreads = virtualThreads;
+        this.pinnedThresholdMs = pinnedThresholdMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int javaVersion = Runtime.version().feature();
+        if (!virtualThreads) {
+            logger.info("Serving requests on platform threads (Java {})", javaVersion);
+            return;
+        }
+        if (javaVersion < 21) {
+            logger.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                    + "serving requests on platform threads. Build with -Pvirtual-threads and run on Java 21+", javaVersion);
+            return;
+        }
+        logger.info("Serving requests on virtual threads (Java {}); reporting pinning above {} ms",
+                javaVersion, pinnedThresholdMs);
+        if (pinnedThresholdMs < 0) {
+            return;
+        }
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(pinnedThresholdMs)).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String source = source(event);
+        Timer.builder("jvm.threads.virtual.pinned")
+                .tag("source", source)
+                .description("Periods a virtual thread blocked while pinned to its carrier thread")
+                .register(meterRegistry)
+                .record(event.getDuration().toNanos(), TimeUnit.NANOSECONDS);
+
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return;
+        }
+        String location = location(event);
+        if (reportedLocations.add(location)) {
+            StringBuilder stack = new StringBuilder();
+            event.getStackTrace().getFrames().stream().limit(LOGGED_FRAMES)
+                    .forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            logger.warn("Virtual thread pinned for {} ms ({} path) at {}; further pins here are only counted{}",
+                    event.getDuration().toMillis(), source, location, stack);
+        }
+    }
+
+    private static String source(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "other";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.postgresql.") || type.startsWith("com.zaxxer.hikari.")) {
+                return "jdbc";
+            }
+            if (type.startsWith("org.springframework.security.crypto.bcrypt.")) {
+                return "bcrypt";
+            }
+        }
+        return "other";
+    }
+
+    // The first application frame, or the top frame when none is ours
+    private static String location(RecordedEvent event) {
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.vishal.manageMoney.")) {
+                return describe(frame);
+            }
+        }
+        return describe(event.getStackTrace().getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
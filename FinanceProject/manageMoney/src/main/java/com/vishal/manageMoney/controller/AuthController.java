@@ -3,6 +3,7 @@ package com.vishal.manageMoney.controller;
 import com.vishal.manageMoney.dto.AuthResponse;
 import com.vishal.manageMoney.dto.LoginRequest;
 import com.vishal.manageMoney.dto.RegisterRequest;
+import com.vishal.manageMoney.exception.ServiceBusyException;
 import com.vishal.manageMoney.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +22,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(loginRequest);
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -31,6 +34,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.register(registerRequest);
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(400).body("Wrong Credentials: ");
         }
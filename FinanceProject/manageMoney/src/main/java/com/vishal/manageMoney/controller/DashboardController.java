@@ -0,0 +1,56 @@
+package com.vishal.manageMoney.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vishal.manageMoney.dto.DashboardSummaryDTO;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.service.DashboardService;
+import com.vishal.manageMoney.service.RollupService;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final RollupService rollupService;
+
+    public DashboardController(DashboardService dashboardService, RollupService rollupService) {
+        this.dashboardService = dashboardService;
+        this.rollupService = rollupService;
+    }
+
+    // to get the authenticated user's dashboard totals, optionally limited to a date range
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(@CurrentUser Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        DashboardSummaryDTO summary;
+        try {
+            summary = dashboardService.getSummary(userId, from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not build dashboard summary: " + e.getMessage());
+        }
+        return ResponseEntity.status(200).body(summary);
+    }
+
+    // to recompute the authenticated user's monthly rollups from their transactions
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<?> rebuildRollups(@CurrentUser Long userId) {
+        try {
+            rollupService.rebuild(userId);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not rebuild rollups: " + e.getMessage());
+        }
+        return ResponseEntity.status(200).body("Rollups rebuilt successfully");
+    }
+}
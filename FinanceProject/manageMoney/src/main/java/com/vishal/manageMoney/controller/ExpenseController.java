@@ -1,21 +1,36 @@
 package com.vishal.manageMoney.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
 import com.vishal.manageMoney.dto.ExpenseRequestDTO;
 import com.vishal.manageMoney.dto.ExpenseResponseDTO;
+import com.vishal.manageMoney.dto.PageResponseDTO;
+import com.vishal.manageMoney.dto.TransactionFilterDTO;
+import com.vishal.manageMoney.dto.Versioned;
+import com.vishal.manageMoney.entity.RollupKind;
 import com.vishal.manageMoney.dto.ExpenseUpdateDTO;
+import com.vishal.manageMoney.exception.BatchValidationException;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.service.CollectionVersionService;
 import com.vishal.manageMoney.service.ExpenseService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 
@@ -24,33 +39,94 @@ import org.springframework.web.bind.annotation.PutMapping;
 @RequestMapping("/api/expense")
 public class ExpenseController {
     private final ExpenseService expenseService;
+    private final CollectionVersionService collectionVersionService;
 
-    public ExpenseController(ExpenseService expenseService) {
+    public ExpenseController(ExpenseService expenseService, CollectionVersionService collectionVersionService) {
         this.expenseService = expenseService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     // to add an expense
     @PostMapping()
-    public ResponseEntity<?> addExpense(@RequestBody ExpenseRequestDTO requestDTO) {
+    public ResponseEntity<?> addExpense(@CurrentUser Long userId, @RequestBody ExpenseRequestDTO requestDTO) {
         ExpenseResponseDTO responseDTO;
         try {
-           responseDTO = expenseService.addExpense(requestDTO);
+           responseDTO = expenseService.addExpense(userId, requestDTO);
         } catch(Exception e) {
             return ResponseEntity.status(500).body("Expense could not be added : " + e.getMessage());
         }
         return ResponseEntity.status(201).body(responseDTO);
     }
 
-    // to get all expense of a user by id
+    // Adds many expense records in one request (used by sync clients after offline use)
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addExpenses(@CurrentUser Long userId, @RequestBody List<ExpenseRequestDTO> requestDTOs) {
+        BulkCreateResponseDTO responseDTO;
+        try {
+            responseDTO = expenseService.addExpenses(userId, requestDTOs);
+        } catch (BatchValidationException e) {
+            return ResponseEntity.status(400).body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not add expense records : " + e.getMessage());
+        }
+        return ResponseEntity.status(201).body(responseDTO);
+    }
+
+    // to get all expense of a user by id (compatibility mode, unbounded; prefer user/{id}/page)
+    // answers 304 when If-None-Match carries the current version of the user's expenses; 403 for another user's id
     @GetMapping("user/{id}/all")
-    public ResponseEntity<?> getAllExpensesByUserId(@PathVariable Long id) {
-        List<ExpenseResponseDTO> expenses;
+    public ResponseEntity<?> getAllExpensesByUserId(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!userId.equals(id)) {
+            return ResponseEntity.status(403).body("Cannot read another user's expenses");
+        }
+        Versioned<byte[]> expenses;
+        try {
+            expenses = collectionVersionService.readCollection(id, RollupKind.EXPENSE, "all", ifNoneMatch,
+                    () -> expenseService.getAllExpensesByUserId(id));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve expenses: " + e.getMessage());
+        }
+        return expenses.toResponseEntity();
+    }
+
+
+    // to get one page of the caller's expenses, newest first unless sort=asc; 403 for another user's id
+    @GetMapping("user/{id}/page")
+    public ResponseEntity<?> getExpensesPage(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!userId.equals(id)) {
+            return ResponseEntity.status(403).body("Cannot read another user's expenses");
+        }
+        Versioned<byte[]> page;
         try {
-            expenses = expenseService.getAllExpensesByUserId(id);
+            page = collectionVersionService.readCollection(id, RollupKind.EXPENSE, KeysetCursor.pageView(cursor, size, sort), ifNoneMatch,
+                    () -> expenseService.getExpensesPage(id, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not retrieve expenses: " + e.getMessage());
         }
-        return ResponseEntity.status(200).body(expenses);
+        return page.toResponseEntity();
+    }
+
+    // to get one page of the authenticated user's expenses matching category, date range, payment mode and amount filters
+    @GetMapping("/filter")
+    public ResponseEntity<?> filter(@CurrentUser Long userId, @ModelAttribute TransactionFilterDTO filter) {
+        PageResponseDTO<ExpenseResponseDTO> page;
+        try {
+            page = expenseService.filterExpenses(userId, filter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve expenses: " + e.getMessage());
+        }
+        return ResponseEntity.status(200).body(page);
     }
 
 
@@ -80,15 +156,21 @@ public class ExpenseController {
     }
 
 
-    // to get an expense by id
+    // to get one of the caller's expenses by id, answering 304 when If-None-Match carries the current version
+    // and 404 when the caller has no expense with that id
     @GetMapping("/{id}")
-    public ResponseEntity<?> getExpenseById(@PathVariable Long id) {
-        ExpenseResponseDTO expense;
+    public ResponseEntity<?> getExpenseById(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Versioned<Optional<ExpenseResponseDTO>> expense;
         try {
-            expense = expenseService.getExpenseById(id);
+            expense = collectionVersionService.readItem(userId, RollupKind.EXPENSE, id, ifNoneMatch,
+                    () -> expenseService.getExpenseById(userId, id));
         } catch(Exception e) {
             return ResponseEntity.status(500).body("Could not fetch expense");
         }
-        return ResponseEntity.status(200).body(expense);
+        if (!expense.notModified() && expense.body().isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return expense.map(Optional::get).toResponseEntity();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.vishal.manageMoney.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.service.ExportService;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    // to download every expense, income, investment and loan of the authenticated user as csv or ndjson
+    // (an unknown format is a 400 from GlobalExceptionHandler)
+    @GetMapping()
+    public ResponseEntity<StreamingResponseBody> export(@CurrentUser Long userId, @RequestParam(required = false) String format) {
+        String normalised = ExportService.normaliseFormat(format);
+        StreamingResponseBody body = exportService.export(userId, normalised);
+
+        MediaType contentType = ExportService.CSV.equals(normalised)
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String filename = "manageMoney-export-" + LocalDate.now() + "." + normalised;
+        return ResponseEntity.status(200)
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
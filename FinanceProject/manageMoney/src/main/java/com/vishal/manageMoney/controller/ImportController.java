@@ -0,0 +1,58 @@
+package com.vishal.manageMoney.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vishal.manageMoney.dto.CsvColumnMapping;
+import com.vishal.manageMoney.dto.ImportResultDTO;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.service.StatementImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+    private final StatementImportService statementImportService;
+
+    public ImportController(StatementImportService statementImportService) {
+        this.statementImportService = statementImportService;
+    }
+
+    // to import a bank statement; the CSV is the raw request body and is read as it arrives,
+    // column names and formats come from query parameters (see CsvColumnMapping)
+    @PostMapping(value = "/csv", consumes = { "text/csv", "text/plain", "application/octet-stream" })
+    public ResponseEntity<?> importCsv(@CurrentUser Long userId, @ModelAttribute CsvColumnMapping mapping,
+                                       HttpServletRequest request) {
+        ImportResultDTO result;
+        try {
+            result = statementImportService.importCsv(userId, request.getInputStream(), mapping);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(400).body("Could not read the uploaded statement : " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not import the statement : " + e.getMessage());
+        }
+        int status = ImportResultDTO.COMPLETED.equals(result.getStatus()) ? 200 : 422;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    // to check on a running import, or see how the last one ended
+    @GetMapping("/progress")
+    public ResponseEntity<?> getProgress(@CurrentUser Long userId) {
+        ImportResultDTO progress = statementImportService.getProgress(userId);
+        if (progress == null) {
+            return ResponseEntity.status(404).body("No import found");
+        }
+        return ResponseEntity.status(200).body(progress);
+    }
+}
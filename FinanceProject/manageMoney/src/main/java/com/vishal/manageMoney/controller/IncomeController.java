@@ -1,13 +1,24 @@
 package com.vishal.manageMoney.controller;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
 import com.vishal.manageMoney.dto.IncomeRequestDTO;
 import com.vishal.manageMoney.dto.IncomeResponseDTO;
+import com.vishal.manageMoney.dto.PageResponseDTO;
+import com.vishal.manageMoney.dto.TransactionFilterDTO;
+import com.vishal.manageMoney.dto.Versioned;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.exception.BatchValidationException;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.service.CollectionVersionService;
 import com.vishal.manageMoney.service.IncomeService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.web.bind.annotation.GetMapping;
 
@@ -20,46 +31,111 @@ public class IncomeController {
 
    
     private IncomeService incomeService;
+    private CollectionVersionService collectionVersionService;
 
-    public IncomeController(IncomeService incomeService) {
+    public IncomeController(IncomeService incomeService, CollectionVersionService collectionVersionService) {
         this.incomeService = incomeService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     // Adds a new income record
     @PostMapping()
-    public ResponseEntity<?> addIncome(@RequestBody IncomeRequestDTO incomeRequestDTO) {
+    public ResponseEntity<?> addIncome(@CurrentUser Long userId, @RequestBody IncomeRequestDTO incomeRequestDTO) {
         IncomeResponseDTO createdIncome;
         try {
-            createdIncome = incomeService.addIncome(incomeRequestDTO);
+            createdIncome = incomeService.addIncome(userId, incomeRequestDTO);
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not add income");
         }
         return ResponseEntity.status(200).body(createdIncome);
     }
 
-    // Retrieves a specific income record by ID
+    // Adds many income records in one request (used by sync clients after offline use)
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addIncomes(@CurrentUser Long userId, @RequestBody List<IncomeRequestDTO> requestDTOs) {
+        BulkCreateResponseDTO responseDTO;
+        try {
+            responseDTO = incomeService.addIncomes(userId, requestDTOs);
+        } catch (BatchValidationException e) {
+            return ResponseEntity.status(400).body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not add income records : " + e.getMessage());
+        }
+        return ResponseEntity.status(201).body(responseDTO);
+    }
+
+    // Retrieves one of the caller's income records by ID, answering 304 when If-None-Match carries the current
+    // version and 404 when the caller has no income record with that id
     @GetMapping("/{id}")
-    public ResponseEntity<IncomeResponseDTO> getIncomeById(@PathVariable Long id) {
-        Optional<IncomeResponseDTO> income = incomeService.getIncomeById(id);
-        return income.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getIncomeById(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Versioned<Optional<IncomeResponseDTO>> income = collectionVersionService.readItem(userId, RollupKind.INCOME, id,
+                ifNoneMatch, () -> incomeService.getIncomeById(userId, id));
+        if (!income.notModified() && income.body().isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return income.map(Optional::get).toResponseEntity();
     }
 
 
-    // Retrieves all income of a user by its id
+    // Retrieves all income of a user by its id (compatibility mode, unbounded; prefer user/{id}/page)
+    // Answers 304 when If-None-Match carries the current version of the user's income; 403 for another user's id
     @GetMapping("user/{id}/all")
-    public ResponseEntity<?> getAllIncomeByUserId(@PathVariable Long id) {
-        List<IncomeResponseDTO> incomeList;
+    public ResponseEntity<?> getAllIncomeByUserId(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!userId.equals(id)) {
+            return ResponseEntity.status(403).body("Cannot read another user's income");
+        }
+        Versioned<byte[]> incomeList;
         try {
-            incomeList = incomeService.getAllIncomeByUserId(id);
+            incomeList = collectionVersionService.readCollection(id, RollupKind.INCOME, "all", ifNoneMatch,
+                    () -> incomeService.getAllIncomeByUserId(id));
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not retrieve income records");
         }
         
-        return ResponseEntity.status(200).body(incomeList);
+        return incomeList.toResponseEntity();
     }
 
 
-   
+    // Retrieves one page of the caller's income, newest first unless sort=asc; 403 for another user's id
+    @GetMapping("user/{id}/page")
+    public ResponseEntity<?> getIncomePage(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!userId.equals(id)) {
+            return ResponseEntity.status(403).body("Cannot read another user's income records");
+        }
+        Versioned<byte[]> page;
+        try {
+            page = collectionVersionService.readCollection(id, RollupKind.INCOME, KeysetCursor.pageView(cursor, size, sort), ifNoneMatch,
+                    () -> incomeService.getIncomePage(id, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve income records");
+        }
+        return page.toResponseEntity();
+    }
+
+    // Retrieves one page of the authenticated user's income matching category, date range and amount filters
+    @GetMapping("/filter")
+    public ResponseEntity<?> filter(@CurrentUser Long userId, @ModelAttribute TransactionFilterDTO filter) {
+        PageResponseDTO<IncomeResponseDTO> page;
+        try {
+            page = incomeService.filterIncome(userId, filter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve income records");
+        }
+        return ResponseEntity.status(200).body(page);
+    }
+
 
     // Updates an existing income record by ID
     @PutMapping("/{id}")
@@ -83,4 +159,4 @@ public class IncomeController {
        }
        return ResponseEntity.status(200).body("Income deleted successfully");
     }
-}
\ No newline at end of file
+}
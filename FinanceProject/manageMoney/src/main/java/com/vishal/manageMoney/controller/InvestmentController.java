@@ -1,17 +1,27 @@
 package com.vishal.manageMoney.controller;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
 import com.vishal.manageMoney.dto.InvestmentRequestDTO;
 import com.vishal.manageMoney.dto.InvestmentResponseDTO;
 import com.vishal.manageMoney.dto.InvestmentUpdateDTO;
+import com.vishal.manageMoney.dto.Versioned;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.exception.BatchValidationException;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.service.CollectionVersionService;
 import com.vishal.manageMoney.service.InvestmentService;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/investment")
@@ -20,17 +30,19 @@ public class InvestmentController {
 
     
     private final InvestmentService investmentService;
+    private final CollectionVersionService collectionVersionService;
 
-    public InvestmentController(InvestmentService investmentService) {
+    public InvestmentController(InvestmentService investmentService, CollectionVersionService collectionVersionService) {
         this.investmentService = investmentService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     // Adds a new investment record
     @PostMapping()
-    public ResponseEntity<?> addInvestment(@Valid @RequestBody InvestmentRequestDTO investmentRequestDTO) {
+    public ResponseEntity<?> addInvestment(@CurrentUser Long userId, @Valid @RequestBody InvestmentRequestDTO investmentRequestDTO) {
         InvestmentResponseDTO createdInvestment;
         try {
-            createdInvestment = investmentService.addInvestment(investmentRequestDTO);
+            createdInvestment = investmentService.addInvestment(userId, investmentRequestDTO);
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not add investment");
         }
@@ -38,31 +50,82 @@ public class InvestmentController {
         return ResponseEntity.status(200).body(createdInvestment);
     }
 
+    // Adds many investment records in one request (used by sync clients after offline use)
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addInvestments(@CurrentUser Long userId, @RequestBody List<InvestmentRequestDTO> requestDTOs) {
+        BulkCreateResponseDTO responseDTO;
+        try {
+            responseDTO = investmentService.addInvestments(userId, requestDTOs);
+        } catch (BatchValidationException e) {
+            return ResponseEntity.status(400).body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not add investment records : " + e.getMessage());
+        }
+        return ResponseEntity.status(201).body(responseDTO);
+    }
+
 
-    // Retrieves all investment records for the authenticated user
+    // Retrieves all investment records for the authenticated user (compatibility mode, unbounded; prefer user/{id}/page)
+    // Answers 304 when If-None-Match carries the current version of the user's investments; 403 for another user's id
     @GetMapping("user/{id}/all")
-    public ResponseEntity<?> getAllInvestments(@PathVariable Long id) {
-        List<InvestmentResponseDTO> investments;
+    public ResponseEntity<?> getAllInvestments(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!userId.equals(id)) {
+            return ResponseEntity.status(403).body("Cannot read another user's investments");
+        }
+        Versioned<byte[]> investments;
         try {
-            investments = investmentService.getAllInvestmentsByUserId(id);
+            investments = collectionVersionService.readCollection(id, RollupKind.INVESTMENT, "all", ifNoneMatch,
+                    () -> investmentService.getAllInvestmentsByUserId(id));
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not retrieve investments");
         }
-        return ResponseEntity.status(200).body(investments);
+        return investments.toResponseEntity();
     }
 
 
+    // Retrieves one page of the caller's investment records, newest first unless sort=asc; 403 for another user's id
+    @GetMapping("user/{id}/page")
+    public ResponseEntity<?> getInvestmentsPage(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!userId.equals(id)) {
+            return ResponseEntity.status(403).body("Cannot read another user's investments");
+        }
+        Versioned<byte[]> page;
+        try {
+            page = collectionVersionService.readCollection(id, RollupKind.INVESTMENT, KeysetCursor.pageView(cursor, size, sort), ifNoneMatch,
+                    () -> investmentService.getInvestmentsPage(id, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve investments");
+        }
+        return page.toResponseEntity();
+    }
+
 
-    // Retrieves a specific investment record by ID
+
+    // Retrieves one of the caller's investment records by ID, answering 304 when If-None-Match carries the current
+    // version and 404 when the caller has no investment record with that id
     @GetMapping("/{id}")
-    public ResponseEntity<?> getInvestmentById(@PathVariable Long id) {
-        InvestmentResponseDTO responseDTO;
+    public ResponseEntity<?> getInvestmentById(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Versioned<Optional<InvestmentResponseDTO>> responseDTO;
         try {
-            responseDTO = investmentService.getInvestmentById(id);
+            responseDTO = collectionVersionService.readItem(userId, RollupKind.INVESTMENT, id, ifNoneMatch,
+                    () -> investmentService.getInvestmentById(userId, id));
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not retrieve investment");
         }
-        return ResponseEntity.status(200).body(responseDTO);
+        if (!responseDTO.notModified() && responseDTO.body().isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return responseDTO.map(Optional::get).toResponseEntity();
     }
 
 
@@ -91,4 +154,4 @@ public class InvestmentController {
         }
         return ResponseEntity.status(200).body(response);
     }
-}
\ No newline at end of file
+}
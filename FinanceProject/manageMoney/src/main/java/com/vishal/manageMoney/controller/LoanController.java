@@ -1,32 +1,44 @@
 package com.vishal.manageMoney.controller;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
 import com.vishal.manageMoney.dto.LoanRequestDTO;
 import com.vishal.manageMoney.dto.LoanResponseDTO;
 import com.vishal.manageMoney.dto.LoanUpdateDTO;
+import com.vishal.manageMoney.dto.Versioned;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.exception.BatchValidationException;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.service.CollectionVersionService;
 import com.vishal.manageMoney.service.LoanService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/loan")
 public class LoanController {
 
     private final LoanService loanService;
+    private final CollectionVersionService collectionVersionService;
 
     // Constructor injection
-    public LoanController(LoanService loanService) {
+    public LoanController(LoanService loanService, CollectionVersionService collectionVersionService) {
         this.loanService = loanService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     // Adds a new loan record
     @PostMapping()
-    public ResponseEntity<?> addLoan(@RequestBody LoanRequestDTO loanRequestDTO) {
+    public ResponseEntity<?> addLoan(@CurrentUser Long userId, @RequestBody LoanRequestDTO loanRequestDTO) {
         LoanResponseDTO responseDTO;
         try {
-            responseDTO = loanService.addLoan(loanRequestDTO);
+            responseDTO = loanService.addLoan(userId, loanRequestDTO);
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not add the loan");
         }
@@ -34,30 +46,81 @@ public class LoanController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
 
+    // Adds many loan records in one request (used by sync clients after offline use)
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addLoans(@CurrentUser Long userId, @RequestBody List<LoanRequestDTO> requestDTOs) {
+        BulkCreateResponseDTO responseDTO;
+        try {
+            responseDTO = loanService.addLoans(userId, requestDTOs);
+        } catch (BatchValidationException e) {
+            return ResponseEntity.status(400).body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not add loan records : " + e.getMessage());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
+    }
+
 
-    // Retrieves all loan records for the authenticated user
+    // Retrieves all loan records for the authenticated user (compatibility mode, unbounded; prefer /user/{userId}/page)
+    // Answers 304 when If-None-Match carries the current version of the user's loans; 403 for another user's id
     @GetMapping("/user/{userId}/all")
-    public ResponseEntity<?> getAllLoans(@PathVariable Long userId) {
-        List<LoanResponseDTO> loans;
+    public ResponseEntity<?> getAllLoans(@CurrentUser Long callerId, @PathVariable Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!callerId.equals(userId)) {
+            return ResponseEntity.status(403).body("Cannot read another user's loans");
+        }
+        Versioned<byte[]> loans;
+        try {
+            loans = collectionVersionService.readCollection(userId, RollupKind.LOAN, "all", ifNoneMatch,
+                    () -> loanService.getAllLoans(userId));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve loans : " + e.getMessage());
+        }
+        return loans.toResponseEntity();
+    }
+
+
+    // Retrieves one page of the caller's loan records by start date, newest first unless sort=asc; 403 for another user's id
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<?> getLoansPage(@CurrentUser Long callerId, @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The path names the owner, so it must be the caller
+        if (!callerId.equals(userId)) {
+            return ResponseEntity.status(403).body("Cannot read another user's loans");
+        }
+        Versioned<byte[]> page;
         try {
-            loans = loanService.getAllLoans(userId);
+            page = collectionVersionService.readCollection(userId, RollupKind.LOAN, KeysetCursor.pageView(cursor, size, sort), ifNoneMatch,
+                    () -> loanService.getLoansPage(userId, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not retrieve loans : " + e.getMessage());
         }
-        return ResponseEntity.status(200).body(loans);
+        return page.toResponseEntity();
     }
 
 
-    // Retrieves a specific loan record by its ID
+    // Retrieves one of the caller's loan records by its ID, answering 304 when If-None-Match carries the current
+    // version and 404 when the caller has no loan with that id
     @GetMapping("/{id}")
-    public ResponseEntity<?> getLoanById(@PathVariable Long id) {
-        LoanResponseDTO loan;
+    public ResponseEntity<?> getLoanById(@CurrentUser Long userId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Versioned<Optional<LoanResponseDTO>> loan;
         try {
-            loan = loanService.getLoanById(id);
+            loan = collectionVersionService.readItem(userId, RollupKind.LOAN, id, ifNoneMatch,
+                    () -> loanService.getLoanById(userId, id));
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Could not retrieve loan with this id");
         }
-        return ResponseEntity.status(200).body(loan);
+        if (!loan.notModified() && loan.body().isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return loan.map(Optional::get).toResponseEntity();
     }
 
 
@@ -85,4 +148,4 @@ public class LoanController {
         }
        return ResponseEntity.status(200).body(response);
     }
-}
\ No newline at end of file
+}
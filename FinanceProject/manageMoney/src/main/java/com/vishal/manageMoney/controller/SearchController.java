@@ -0,0 +1,59 @@
+package com.vishal.manageMoney.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vishal.manageMoney.dto.SearchResponseDTO;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.service.SearchIndexService;
+import com.vishal.manageMoney.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+    private final SearchService searchService;
+    private final SearchIndexService searchIndexService;
+
+    public SearchController(SearchService searchService, SearchIndexService searchIndexService) {
+        this.searchService = searchService;
+        this.searchIndexService = searchIndexService;
+    }
+
+    // to search the authenticated user's transaction descriptions; prefix and typo tolerant, best matches first.
+    // kinds=expense,income and from/to narrow the search, limit caps the number of results
+    @GetMapping()
+    public ResponseEntity<?> search(@CurrentUser Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) String kinds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        SearchResponseDTO response;
+        try {
+            response = searchService.search(userId, q, kinds, from, to, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not search transactions: " + e.getMessage());
+        }
+        return ResponseEntity.status(200).body(response);
+    }
+
+    // to re-index the authenticated user's transactions from scratch
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuildIndex(@CurrentUser Long userId) {
+        try {
+            searchIndexService.rebuild(userId);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not rebuild search index: " + e.getMessage());
+        }
+        return ResponseEntity.status(200).body("Search index rebuilt");
+    }
+}
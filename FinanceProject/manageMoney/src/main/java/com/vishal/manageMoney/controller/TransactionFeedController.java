@@ -0,0 +1,41 @@
+package com.vishal.manageMoney.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vishal.manageMoney.dto.CursorPage;
+import com.vishal.manageMoney.dto.TransactionFeedItemDTO;
+import com.vishal.manageMoney.security.CurrentUser;
+import com.vishal.manageMoney.service.TransactionFeedService;
+
+@RestController
+@RequestMapping("/api/feed")
+public class TransactionFeedController {
+    private final TransactionFeedService feedService;
+
+    public TransactionFeedController(TransactionFeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    // to get one page of the authenticated user's expenses, incomes, investments and loans merged by date,
+    // newest first unless sort=asc; kinds=expense,income limits the feed to those kinds
+    @GetMapping()
+    public ResponseEntity<?> getFeed(@CurrentUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String kinds) {
+        CursorPage<TransactionFeedItemDTO> page;
+        try {
+            page = feedService.getFeed(userId, cursor, size, sort, kinds);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Could not retrieve transactions: " + e.getMessage());
+        }
+        return ResponseEntity.status(200).body(page);
+    }
+}
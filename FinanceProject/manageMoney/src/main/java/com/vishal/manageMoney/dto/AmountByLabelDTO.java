@@ -0,0 +1,17 @@
+package com.vishal.manageMoney.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.vishal.manageMoney.utils.Money;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AmountByLabelDTO {
+    private String label;
+    private Money total;
+}
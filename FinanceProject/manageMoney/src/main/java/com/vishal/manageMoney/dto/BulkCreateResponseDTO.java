@@ -0,0 +1,18 @@
+package com.vishal.manageMoney.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Result of a bulk create: ids are in the same order as the submitted items
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkCreateResponseDTO {
+    private int created;
+    private List<Long> ids;
+}
@@ -0,0 +1,27 @@
+package com.vishal.manageMoney.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// How the columns of a bank-statement CSV map onto expenses and incomes; bound from query parameters.
+// Either a signed amount column (negative = expense) or a debit/credit column pair is used.
+@Getter
+@Setter
+@NoArgsConstructor
+public class CsvColumnMapping {
+    private String dateColumn = "Date";
+    private String descriptionColumn = "Description";
+    private String amountColumn = "Amount";
+    private String debitColumn;
+    private String creditColumn;
+    private String categoryColumn;
+
+    private String dateFormat = "yyyy-MM-dd";
+    private String delimiter = ",";
+
+    // Values for fields the statement does not carry
+    private String defaultCategory = "Uncategorized";
+    private String paymentMode = "Bank Transfer";
+    private String incomeSource = "Bank Statement";
+}
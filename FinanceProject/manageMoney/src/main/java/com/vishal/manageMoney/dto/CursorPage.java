@@ -0,0 +1,20 @@
+package com.vishal.manageMoney.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private int size;
+    private String sort;
+    // Opaque cursor for the next page, null when this is the last page
+    private String nextCursor;
+}
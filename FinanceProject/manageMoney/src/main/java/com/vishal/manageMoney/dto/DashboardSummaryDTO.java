@@ -0,0 +1,32 @@
+package com.vishal.manageMoney.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.vishal.manageMoney.utils.Money;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardSummaryDTO {
+    private LocalDate from;
+    private LocalDate to;
+
+    private Money totalIncome;
+    private Money totalExpenses;
+    private Money totalInvestments;
+    private Money totalPrincipal;
+    private Money totalEmi;
+
+    private List<AmountByLabelDTO> expensesByCategory;
+    private List<AmountByLabelDTO> incomeBySource;
+    private List<AmountByLabelDTO> investmentsByType;
+    private List<LoanTypeSummaryDTO> loansByType;
+    private List<MonthlySummaryDTO> monthly;
+}
@@ -10,6 +10,7 @@ import lombok.Setter;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PastOrPresent;
 import java.time.LocalDate;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Getter
@@ -28,7 +29,7 @@ public class ExpenseRequestDTO {
 
     @NotNull(message = "Amount is required")
     @Min(value = 0, message = "Amount must be positive")
-    private Double amount;
+    private Money amount;
 
     @NotNull(message = "Date is required")
     @PastOrPresent(message = "Date cannot be in the future")
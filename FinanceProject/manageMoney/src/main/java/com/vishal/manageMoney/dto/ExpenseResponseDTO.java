@@ -3,6 +3,7 @@ package com.vishal.manageMoney.dto;
 import java.time.LocalDate;
 
 import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.utils.Money;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,7 +20,7 @@ public class ExpenseResponseDTO {
     private Long id;
     private String description;
     private String category;
-    private Double amount;
+    private Money amount;
     private LocalDate date;
     private String paymentMode;
 
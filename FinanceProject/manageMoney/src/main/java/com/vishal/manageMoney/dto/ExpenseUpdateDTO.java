@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Getter
@@ -14,7 +15,7 @@ import lombok.Setter;
 public class ExpenseUpdateDTO {
     private String description;
     private String category;
-    private Double amount;
+    private Money amount;
     private LocalDate date;
     private String paymentMode;
 }
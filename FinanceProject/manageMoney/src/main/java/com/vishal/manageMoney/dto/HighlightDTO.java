@@ -0,0 +1,16 @@
+package com.vishal.manageMoney.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A matched word in a search result's description, as [start, end) character offsets
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class HighlightDTO {
+    private int start;
+    private int end;
+}
@@ -0,0 +1,48 @@
+package com.vishal.manageMoney.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Progress and outcome of a statement import; also returned while the import is still running
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImportResultDTO {
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private String status = RUNNING;
+    private long rowsRead;
+    private long expensesCreated;
+    private long incomesCreated;
+    private long duplicatesSkipped;
+    private long rowsRejected;
+    private long chunksWritten;
+    // Only the first errors are listed; rowsRejected has the full count
+    private List<ImportRowErrorDTO> errors = new ArrayList<>();
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public ImportResultDTO copy() {
+        ImportResultDTO copy = new ImportResultDTO();
+        copy.status = status;
+        copy.rowsRead = rowsRead;
+        copy.expensesCreated = expensesCreated;
+        copy.incomesCreated = incomesCreated;
+        copy.duplicatesSkipped = duplicatesSkipped;
+        copy.rowsRejected = rowsRejected;
+        copy.chunksWritten = chunksWritten;
+        copy.errors = new ArrayList<>(errors);
+        copy.message = message;
+        copy.startedAt = startedAt;
+        copy.finishedAt = finishedAt;
+        return copy;
+    }
+}
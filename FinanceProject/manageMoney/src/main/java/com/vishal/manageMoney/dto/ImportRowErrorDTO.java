@@ -0,0 +1,16 @@
+package com.vishal.manageMoney.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDTO {
+    // Line of the CSV the row starts on (the header is line 1)
+    private long line;
+    private String message;
+}
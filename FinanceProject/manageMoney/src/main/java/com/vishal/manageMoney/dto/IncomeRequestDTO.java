@@ -5,12 +5,12 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Getter
@@ -33,7 +33,7 @@ public class IncomeRequestDTO {
 
     @NotNull(message = "Amount is required.")
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0.")
-    private BigDecimal amount;
+    private Money amount;
 
     @NotNull(message = "Date is required.")
     private LocalDate date;
@@ -1,6 +1,5 @@
 package com.vishal.manageMoney.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import lombok.AllArgsConstructor;
@@ -8,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import com.vishal.manageMoney.utils.Money;
+
 
 @Getter
 @Setter
@@ -18,6 +19,6 @@ public class IncomeResponseDTO {
     private String source;
     private String category;
     private String description;
-    private BigDecimal amount;
+    private Money amount;
     private LocalDate date;
 }
\ No newline at end of file
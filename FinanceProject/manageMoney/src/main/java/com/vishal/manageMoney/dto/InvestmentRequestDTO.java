@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Getter
@@ -31,7 +32,7 @@ public class InvestmentRequestDTO {
 
     @NotNull(message = "Amount is required.")
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0.")
-    private Double amount;
+    private Money amount;
 
     @NotNull(message = "Investment date is required.")
     private LocalDate date;
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Getter
@@ -17,6 +18,6 @@ public class InvestmentResponseDTO {
     private String type;
     private String institution;
     private String description;
-    private Double amount;
+    private Money amount;
     private LocalDate date;
 }
\ No newline at end of file
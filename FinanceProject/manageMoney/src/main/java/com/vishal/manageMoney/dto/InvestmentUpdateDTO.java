@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Getter
@@ -25,7 +26,7 @@ public class InvestmentUpdateDTO {
     private String description;
 
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0.")
-    private Double amount;
+    private Money amount;
 
     private LocalDate date;
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import com.vishal.manageMoney.utils.Money;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -30,7 +31,7 @@ public class LoanRequestDTO {
 
     @NotNull(message = "Principal amount is required.")
     @DecimalMin(value = "0.0", inclusive = false, message = "Principal amount must be greater than 0.")
-    private Double principal;
+    private Money principal;
 
     @NotNull(message = "Interest rate is required.")
     @DecimalMin(value = "0.0", inclusive = false, message = "Interest rate must be greater than 0.")
@@ -38,7 +39,7 @@ public class LoanRequestDTO {
 
     @NotNull(message = "EMI is required.")
     @DecimalMin(value = "0.0", inclusive = false, message = "EMI must be greater than 0.")
-    private Double emi;
+    private Money emi;
 
     @NotNull(message = "Start date is required.")
     private LocalDate startDate;
@@ -6,6 +6,7 @@ import lombok.Setter;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import com.vishal.manageMoney.utils.Money;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -16,9 +17,9 @@ public class LoanResponseDTO {
     private String type;
     private String lender;
     private String description;
-    private Double principal;
+    private Money principal;
     private Double interestRate;
-    private Double emi;
+    private Money emi;
     private LocalDate startDate;
     private LocalDate endDate;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.vishal.manageMoney.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.vishal.manageMoney.utils.Money;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoanTypeSummaryDTO {
+    private String type;
+    private Money principal;
+    private Money emi;
+}
@@ -8,6 +8,7 @@ import lombok.Setter;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import com.vishal.manageMoney.utils.Money;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -24,13 +25,13 @@ public class LoanUpdateDTO {
     private String description;
 
     @DecimalMin(value = "0.0", inclusive = false, message = "Principal amount must be greater than 0.")
-    private Double principal;
+    private Money principal;
 
     @DecimalMin(value = "0.0", inclusive = false, message = "Interest rate must be greater than 0.")
     private Double interestRate;
 
     @DecimalMin(value = "0.0", inclusive = false, message = "EMI must be greater than 0.")
-    private Double emi;
+    private Money emi;
 
     private LocalDate startDate;
     private LocalDate endDate;
@@ -0,0 +1,20 @@
+package com.vishal.manageMoney.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.vishal.manageMoney.utils.Money;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MonthlySummaryDTO {
+    // yyyy-MM
+    private String month;
+    private Money income;
+    private Money expenses;
+    private Money investments;
+}
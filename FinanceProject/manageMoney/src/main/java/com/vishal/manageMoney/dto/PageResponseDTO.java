@@ -0,0 +1,21 @@
+package com.vishal.manageMoney.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageResponseDTO<T> {
+    private List<T> items;
+    // Zero-based page number
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+}
@@ -0,0 +1,20 @@
+package com.vishal.manageMoney.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResponseDTO {
+    // the words the query was reduced to after dropping stop words
+    private List<String> terms;
+    // transactions matching at least one word, before the limit was applied
+    private long totalMatches;
+    private List<SearchResultDTO> items;
+}
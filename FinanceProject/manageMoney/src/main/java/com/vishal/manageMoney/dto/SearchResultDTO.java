@@ -0,0 +1,34 @@
+package com.vishal.manageMoney.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.utils.Money;
+
+// One ranked search hit; the transaction fields have the same shape as a feed item
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultDTO {
+    private RollupKind kind;
+    private Long id;
+    // expense/income/investment date, loan start date
+    private LocalDate date;
+    // expense or income category, investment or loan type
+    private String category;
+    private String description;
+    // income source, investment institution or loan lender; null for expenses
+    private String counterparty;
+    // loan principal for loans
+    private Money amount;
+    // higher is better; each query word contributes at most 1
+    private double score;
+    private List<HighlightDTO> highlights;
+}
@@ -0,0 +1,30 @@
+package com.vishal.manageMoney.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.utils.Money;
+
+// One row of the merged transaction feed, the same shape for every kind
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionFeedItemDTO {
+    private RollupKind kind;
+    private Long id;
+    // expense/income/investment date, loan start date
+    private LocalDate date;
+    // expense or income category, investment or loan type
+    private String category;
+    private String description;
+    // income source, investment institution or loan lender; null for expenses
+    private String counterparty;
+    // loan principal for loans
+    private Money amount;
+}
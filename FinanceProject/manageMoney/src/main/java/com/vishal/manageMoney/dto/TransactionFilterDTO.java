@@ -0,0 +1,31 @@
+package com.vishal.manageMoney.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Query parameters of the expense/income filter endpoints; every criterion is optional
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionFilterDTO {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private String category;
+    // Only applies to expenses
+    private String paymentMode;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    // Zero-based page number
+    private Integer page;
+    private Integer size;
+}
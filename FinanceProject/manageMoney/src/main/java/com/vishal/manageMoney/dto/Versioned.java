@@ -0,0 +1,39 @@
+package com.vishal.manageMoney.dto;
+
+import java.util.function.Function;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+// The result of a conditional read: the body and its ETag, or only the ETag when the client's copy is current.
+public record Versioned<T>(String etag, T body, boolean notModified) {
+
+    public static <T> Versioned<T> notModified(String etag) {
+        return new Versioned<>(etag, null, true);
+    }
+
+    public static <T> Versioned<T> of(String etag, T body) {
+        return new Versioned<>(etag, body, false);
+    }
+
+    public <R> Versioned<R> map(Function<T, R> mapper) {
+        return notModified ? notModified(etag) : new Versioned<>(etag, mapper.apply(body), false);
+    }
+
+    // 304 or 200 with the ETag. Clients may cache the body but must revalidate before reuse; setting
+    // Cache-Control here also keeps Spring Security from marking the response no-store.
+    // A byte[] body is JSON that was encoded in advance and is written out as is.
+    public ResponseEntity<?> toResponseEntity() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? 304 : 200)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (notModified) {
+            return builder.build();
+        }
+        if (body instanceof byte[]) {
+            builder.contentType(MediaType.APPLICATION_JSON);
+        }
+        return builder.body(body);
+    }
+}
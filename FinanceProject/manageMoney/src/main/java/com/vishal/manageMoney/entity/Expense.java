@@ -11,6 +11,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 
 @Table(name = "expenses")
@@ -21,7 +22,9 @@ import lombok.Setter;
 @Getter
 public class Expense {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids (50 per round trip) let Hibernate batch inserts, which IDENTITY prevents
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenses_seq")
+    @SequenceGenerator(name = "expenses_seq", sequenceName = "expenses_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "description", nullable = false, length = 500)
@@ -34,10 +37,11 @@ public class Expense {
     @Size(max = 100, message = "Category cannot exceed 100 characters")
     private String category;
 
-    @Column(name = "amount", nullable = false)
+    // Whole paise (see MoneyConverter)
+    @Column(name = "amount_minor", nullable = false)
     @NotNull(message = "Amount is required")
     @Min(value = 0, message = "Amount must be positive")
-    private Double amount; 
+    private Money amount;
 
 
     @Column(name = "date", nullable = false)
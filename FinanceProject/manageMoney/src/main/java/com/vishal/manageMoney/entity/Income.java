@@ -9,8 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import com.vishal.manageMoney.utils.Money;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -21,7 +21,9 @@ import java.time.LocalDate;
 public class Income {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids (50 per round trip) let Hibernate batch inserts, which IDENTITY prevents
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "incomes_seq")
+    @SequenceGenerator(name = "incomes_seq", sequenceName = "incomes_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Source is required")
@@ -39,8 +41,8 @@ public class Income {
     private String category;
 
     @NotNull(message = "Amount is required")
-    @Column(nullable = false)
-    private BigDecimal amount;
+    @Column(name = "amount_minor", nullable = false)
+    private Money amount;
 
     @NotNull(message = "Date is required")
     @Column(nullable = false)
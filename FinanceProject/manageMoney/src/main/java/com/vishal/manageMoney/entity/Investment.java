@@ -11,6 +11,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -21,7 +22,9 @@ import lombok.Setter;
 public class Investment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids (50 per round trip) let Hibernate batch inserts, which IDENTITY prevents
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investments_seq")
+    @SequenceGenerator(name = "investments_seq", sequenceName = "investments_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Investment type is required")
@@ -37,9 +40,9 @@ public class Investment {
     private String description;
 
     @NotNull(message = "Amount is required")
-    @Column(nullable = false)
+    @Column(name = "amount_minor", nullable = false)
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0.")
-    private Double amount;
+    private Money amount;
 
     @NotNull(message = "Investment date is required")
     private LocalDate date;
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.vishal.manageMoney.utils.Money;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,7 +18,9 @@ import lombok.Setter;
 public class Loan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids (50 per round trip) let Hibernate batch inserts, which IDENTITY prevents
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loans_seq")
+    @SequenceGenerator(name = "loans_seq", sequenceName = "loans_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Loan type is required")
@@ -37,8 +40,8 @@ public class Loan {
 
     @NotNull(message = "Principal amount is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
-    @Column(nullable = false)
-    private Double principal;
+    @Column(name = "principal_minor", nullable = false)
+    private Money principal;
 
     @NotNull(message = "Interest rate is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Interest rate must be greater than 0")
@@ -47,8 +50,8 @@ public class Loan {
 
     @NotNull(message = "EMI is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "EMI must be greater than 0")
-    @Column(nullable = false)
-    private Double emi; // in rupees
+    @Column(name = "emi_minor", nullable = false)
+    private Money emi;
 
     @NotNull(message = "Start date is required")
     @Column(nullable = false)
@@ -0,0 +1,45 @@
+package com.vishal.manageMoney.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Running total of one user's amounts for one (month, kind, category) bucket
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "monthly_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_monthly_rollups_bucket",
+                columnNames = {"user_id", "month_start", "kind", "category"}))
+public class MonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // First day of the month the bucket covers
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RollupKind kind;
+
+    @Column(nullable = false)
+    private String category;
+
+    // Whole paise, kept as a primitive so bucket arithmetic never boxes
+    @Column(name = "total_minor", nullable = false)
+    private long totalMinor;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+}
@@ -0,0 +1,9 @@
+package com.vishal.manageMoney.entity;
+
+// Which transaction type a monthly rollup bucket sums, search posting points at or collection version counts
+public enum RollupKind {
+    EXPENSE,     // bucketed by category
+    INCOME,      // bucketed by source
+    INVESTMENT,  // bucketed by type
+    LOAN         // not rolled up: loan totals count every loan active in the range, whatever its start month
+}
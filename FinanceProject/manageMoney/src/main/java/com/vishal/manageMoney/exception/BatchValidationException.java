@@ -0,0 +1,17 @@
+package com.vishal.manageMoney.exception;
+
+import java.util.List;
+
+// Thrown when any item of a bulk request fails validation; nothing from the batch is written
+public class BatchValidationException extends RuntimeException {
+    private final List<String> errors;
+
+    public BatchValidationException(String message, List<String> errors) {
+        super(message);
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
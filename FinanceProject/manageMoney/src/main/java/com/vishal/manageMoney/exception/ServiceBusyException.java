@@ -0,0 +1,12 @@
+package com.vishal.manageMoney.exception;
+
+// Thrown when a bounded resource is saturated and the request should be retried later
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+    
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
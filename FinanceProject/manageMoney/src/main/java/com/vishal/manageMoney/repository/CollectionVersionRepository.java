@@ -0,0 +1,43 @@
+package com.vishal.manageMoney.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.vishal.manageMoney.entity.RollupKind;
+
+// collection_versions access. Plain JDBC like the search index: the bump is a one-row upsert issued alongside
+// the caller's JPA writes, in the same transaction.
+@Repository
+public class CollectionVersionRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public CollectionVersionRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    // increments a collection's version, creating it at 1 on first use, and returns the new value
+    public long increment(Long userId, RollupKind kind) {
+        return jdbc.queryForObject("INSERT INTO collection_versions (user_id, kind, version) "
+                + "VALUES (:userId, :kind, 1) "
+                + "ON CONFLICT (user_id, kind) DO UPDATE SET version = collection_versions.version + 1 "
+                + "RETURNING version", params(userId, kind), Long.class);
+    }
+
+    // a collection's current version, 0 if it has never been written
+    public long find(Long userId, RollupKind kind) {
+        List<Long> versions = jdbc.queryForList(
+                "SELECT version FROM collection_versions WHERE user_id = :userId AND kind = :kind",
+                params(userId, kind), Long.class);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    private static MapSqlParameterSource params(Long userId, RollupKind kind) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("kind", kind.name());
+    }
+}
@@ -1,13 +1,72 @@
 package com.vishal.manageMoney.repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.vishal.manageMoney.dto.ExpenseResponseDTO;
 import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.repository.projection.DedupSource;
+import com.vishal.manageMoney.repository.projection.LabelTotal;
+import com.vishal.manageMoney.repository.projection.MonthlyTotal;
 
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense , Long>{
+public interface ExpenseRepository extends JpaRepository<Expense , Long>, JpaSpecificationExecutor<Expense>, ExpenseRepositoryCustom {
     public List<Expense> findExpenseByUserId(Long userId);
-}
\ No newline at end of file
+
+    // keyset pages of a user's expenses in response-DTO form, newest first / oldest first, after the given (date, id);
+    // the redundant bound on the date lets the index be seeked to the cursor instead of filtering every row
+    @Query("select new com.vishal.manageMoney.dto.ExpenseResponseDTO(e.id, e.description, e.category, e.amount, e.date, e.paymentMode) from Expense e "
+            + "where e.user.id = :userId and e.date <= :date and (e.date < :date or (e.date = :date and e.id < :id)) "
+            + "order by e.date desc, e.id desc")
+    public List<ExpenseResponseDTO> findResponsePageDesc(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("select new com.vishal.manageMoney.dto.ExpenseResponseDTO(e.id, e.description, e.category, e.amount, e.date, e.paymentMode) from Expense e "
+            + "where e.user.id = :userId and e.date >= :date and (e.date > :date or (e.date = :date and e.id > :id)) "
+            + "order by e.date asc, e.id asc")
+    public List<ExpenseResponseDTO> findResponsePageAsc(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    // a user's expenses selected straight into response DTOs, newest first, without hydrating entities
+    @Query("select new com.vishal.manageMoney.dto.ExpenseResponseDTO(e.id, e.description, e.category, e.amount, e.date, e.paymentMode) from Expense e where e.user.id = :userId order by e.date desc, e.id desc")
+    public List<ExpenseResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    // one of a user's expenses selected straight into a response DTO, empty when it belongs to someone else
+    @Query("select new com.vishal.manageMoney.dto.ExpenseResponseDTO(e.id, e.description, e.category, e.amount, e.date, e.paymentMode) from Expense e where e.id = :id and e.user.id = :userId")
+    public Optional<ExpenseResponseDTO> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // category totals of a user's expenses within a date range
+    @Query("select e.category as label, sum(e.amount) as total from Expense e "
+            + "where e.user.id = :userId and e.date between :from and :to group by e.category")
+    public List<LabelTotal> sumAmountByCategory(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // monthly totals of a user's expenses within a date range
+    @Query("select year(e.date) as year, month(e.date) as month, sum(e.amount) as total from Expense e "
+            + "where e.user.id = :userId and e.date between :from and :to "
+            + "group by year(e.date), month(e.date)")
+    public List<MonthlyTotal> sumAmountByMonth(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // date/amount/description of every expense of a user, streamed for the import duplicate index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.date as date, e.amount as amount, e.description as description from Expense e where e.user.id = :userId")
+    public Stream<DedupSource> streamDedupSourcesByUserId(@Param("userId") Long userId);
+
+    // every expense of a user in date order, read through a database cursor for exports
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    public Stream<Expense> streamByUserIdOrderByDateAscIdAsc(Long userId);
+}
@@ -0,0 +1,14 @@
+package com.vishal.manageMoney.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.vishal.manageMoney.dto.ExpenseResponseDTO;
+import com.vishal.manageMoney.entity.Expense;
+
+public interface ExpenseRepositoryCustom {
+
+    // a page of the matching expenses, selected directly in response-DTO form
+    Page<ExpenseResponseDTO> findResponsePage(Specification<Expense> spec, Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.vishal.manageMoney.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+
+import com.vishal.manageMoney.dto.ExpenseResponseDTO;
+import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.repository.specification.DtoPageQuery;
+
+class ExpenseRepositoryImpl implements ExpenseRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    ExpenseRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<ExpenseResponseDTO> findResponsePage(Specification<Expense> spec, Pageable pageable) {
+        return DtoPageQuery.find(entityManager, Expense.class, spec, pageable, ExpenseResponseDTO.class,
+                "id", "description", "category", "amount", "date", "paymentMode");
+    }
+}
@@ -1,13 +1,73 @@
 package com.vishal.manageMoney.repository;
 
+import com.vishal.manageMoney.dto.IncomeResponseDTO;
 import com.vishal.manageMoney.entity.Income;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.vishal.manageMoney.repository.projection.DedupSource;
+import com.vishal.manageMoney.repository.projection.LabelTotal;
+import com.vishal.manageMoney.repository.projection.MonthlyTotal;
+
 @Repository
-public interface IncomeRepository extends JpaRepository<Income, Long> {
+public interface IncomeRepository extends JpaRepository<Income, Long>, JpaSpecificationExecutor<Income>, IncomeRepositoryCustom {
     public List<Income> findByUserId(Long id);
-}
\ No newline at end of file
+
+    // keyset pages of a user's incomes in response-DTO form, newest first / oldest first, after the given (date, id);
+    // the redundant bound on the date lets the index be seeked to the cursor instead of filtering every row
+    @Query("select new com.vishal.manageMoney.dto.IncomeResponseDTO(i.id, i.source, i.category, i.description, i.amount, i.date) from Income i "
+            + "where i.user.id = :userId and i.date <= :date and (i.date < :date or (i.date = :date and i.id < :id)) "
+            + "order by i.date desc, i.id desc")
+    public List<IncomeResponseDTO> findResponsePageDesc(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("select new com.vishal.manageMoney.dto.IncomeResponseDTO(i.id, i.source, i.category, i.description, i.amount, i.date) from Income i "
+            + "where i.user.id = :userId and i.date >= :date and (i.date > :date or (i.date = :date and i.id > :id)) "
+            + "order by i.date asc, i.id asc")
+    public List<IncomeResponseDTO> findResponsePageAsc(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    // a user's incomes selected straight into response DTOs, newest first, without hydrating entities
+    @Query("select new com.vishal.manageMoney.dto.IncomeResponseDTO(i.id, i.source, i.category, i.description, i.amount, i.date) from Income i where i.user.id = :userId order by i.date desc, i.id desc")
+    public List<IncomeResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    // one of a user's incomes selected straight into a response DTO, empty when it belongs to someone else
+    @Query("select new com.vishal.manageMoney.dto.IncomeResponseDTO(i.id, i.source, i.category, i.description, i.amount, i.date) from Income i where i.id = :id and i.user.id = :userId")
+    public Optional<IncomeResponseDTO> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // source totals of a user's incomes within a date range
+    @Query("select i.source as label, sum(i.amount) as total from Income i "
+            + "where i.user.id = :userId and i.date between :from and :to group by i.source")
+    public List<LabelTotal> sumAmountBySource(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // monthly totals of a user's incomes within a date range
+    @Query("select year(i.date) as year, month(i.date) as month, sum(i.amount) as total from Income i "
+            + "where i.user.id = :userId and i.date between :from and :to "
+            + "group by year(i.date), month(i.date)")
+    public List<MonthlyTotal> sumAmountByMonth(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // date/amount/description of every income of a user, streamed for the import duplicate index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select i.date as date, i.amount as amount, i.description as description from Income i where i.user.id = :userId")
+    public Stream<DedupSource> streamDedupSourcesByUserId(@Param("userId") Long userId);
+
+    // every income of a user in date order, read through a database cursor for exports
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    public Stream<Income> streamByUserIdOrderByDateAscIdAsc(Long userId);
+}
@@ -0,0 +1,14 @@
+package com.vishal.manageMoney.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.vishal.manageMoney.dto.IncomeResponseDTO;
+import com.vishal.manageMoney.entity.Income;
+
+public interface IncomeRepositoryCustom {
+
+    // a page of the matching incomes, selected directly in response-DTO form
+    Page<IncomeResponseDTO> findResponsePage(Specification<Income> spec, Pageable pageable);
+}
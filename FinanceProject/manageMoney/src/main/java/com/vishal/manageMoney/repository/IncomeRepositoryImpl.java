@@ -0,0 +1,26 @@
+package com.vishal.manageMoney.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+
+import com.vishal.manageMoney.dto.IncomeResponseDTO;
+import com.vishal.manageMoney.entity.Income;
+import com.vishal.manageMoney.repository.specification.DtoPageQuery;
+
+class IncomeRepositoryImpl implements IncomeRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    IncomeRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<IncomeResponseDTO> findResponsePage(Specification<Income> spec, Pageable pageable) {
+        return DtoPageQuery.find(entityManager, Income.class, spec, pageable, IncomeResponseDTO.class,
+                "id", "source", "category", "description", "amount", "date");
+    }
+}
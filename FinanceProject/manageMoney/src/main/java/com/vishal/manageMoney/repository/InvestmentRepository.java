@@ -1,13 +1,65 @@
 package com.vishal.manageMoney.repository;
 
+import com.vishal.manageMoney.dto.InvestmentResponseDTO;
 import com.vishal.manageMoney.entity.Investment;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.vishal.manageMoney.repository.projection.LabelTotal;
+import com.vishal.manageMoney.repository.projection.MonthlyTotal;
+
 @Repository
 public interface InvestmentRepository extends JpaRepository<Investment, Long> {
     public List<Investment> findAllByUserId(Long userId);
-}
\ No newline at end of file
+
+    // keyset pages of a user's investments in response-DTO form, newest first / oldest first, after the given (date, id);
+    // the redundant bound on the date lets the index be seeked to the cursor instead of filtering every row
+    @Query("select new com.vishal.manageMoney.dto.InvestmentResponseDTO(i.id, i.type, i.institution, i.description, i.amount, i.date) from Investment i "
+            + "where i.user.id = :userId and i.date <= :date and (i.date < :date or (i.date = :date and i.id < :id)) "
+            + "order by i.date desc, i.id desc")
+    public List<InvestmentResponseDTO> findResponsePageDesc(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("select new com.vishal.manageMoney.dto.InvestmentResponseDTO(i.id, i.type, i.institution, i.description, i.amount, i.date) from Investment i "
+            + "where i.user.id = :userId and i.date >= :date and (i.date > :date or (i.date = :date and i.id > :id)) "
+            + "order by i.date asc, i.id asc")
+    public List<InvestmentResponseDTO> findResponsePageAsc(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    // a user's investments selected straight into response DTOs, newest first, without hydrating entities
+    @Query("select new com.vishal.manageMoney.dto.InvestmentResponseDTO(i.id, i.type, i.institution, i.description, i.amount, i.date) from Investment i where i.user.id = :userId order by i.date desc, i.id desc")
+    public List<InvestmentResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    // one of a user's investments selected straight into a response DTO, empty when it belongs to someone else
+    @Query("select new com.vishal.manageMoney.dto.InvestmentResponseDTO(i.id, i.type, i.institution, i.description, i.amount, i.date) from Investment i where i.id = :id and i.user.id = :userId")
+    public Optional<InvestmentResponseDTO> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // type totals of a user's investments within a date range
+    @Query("select i.type as label, sum(i.amount) as total from Investment i "
+            + "where i.user.id = :userId and i.date between :from and :to group by i.type")
+    public List<LabelTotal> sumAmountByType(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // monthly totals of a user's investments within a date range
+    @Query("select year(i.date) as year, month(i.date) as month, sum(i.amount) as total from Investment i "
+            + "where i.user.id = :userId and i.date between :from and :to "
+            + "group by year(i.date), month(i.date)")
+    public List<MonthlyTotal> sumAmountByMonth(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // every investment of a user in date order, read through a database cursor for exports
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    public Stream<Investment> streamByUserIdOrderByDateAscIdAsc(Long userId);
+}
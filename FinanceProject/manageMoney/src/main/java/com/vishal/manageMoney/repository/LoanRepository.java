@@ -1,13 +1,57 @@
 package com.vishal.manageMoney.repository;
+import com.vishal.manageMoney.dto.LoanResponseDTO;
 import com.vishal.manageMoney.entity.Loan;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.vishal.manageMoney.repository.projection.LoanTypeTotal;
+
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
     List<Loan> findLoanByUserId(Long userId);
-}
\ No newline at end of file
+
+    // keyset pages of a user's loans in response-DTO form, newest first / oldest first, after the given (startDate, id);
+    // the redundant bound on the date lets the index be seeked to the cursor instead of filtering every row
+    @Query("select new com.vishal.manageMoney.dto.LoanResponseDTO(l.id, l.type, l.lender, l.description, l.principal, l.interestRate, l.emi, l.startDate, l.endDate) from Loan l "
+            + "where l.user.id = :userId and l.startDate <= :startDate and (l.startDate < :startDate or (l.startDate = :startDate and l.id < :id)) "
+            + "order by l.startDate desc, l.id desc")
+    List<LoanResponseDTO> findResponsePageDesc(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("id") Long id, Limit limit);
+
+    @Query("select new com.vishal.manageMoney.dto.LoanResponseDTO(l.id, l.type, l.lender, l.description, l.principal, l.interestRate, l.emi, l.startDate, l.endDate) from Loan l "
+            + "where l.user.id = :userId and l.startDate >= :startDate and (l.startDate > :startDate or (l.startDate = :startDate and l.id > :id)) "
+            + "order by l.startDate asc, l.id asc")
+    List<LoanResponseDTO> findResponsePageAsc(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("id") Long id, Limit limit);
+
+    // a user's loans selected straight into response DTOs, newest first, without hydrating entities
+    @Query("select new com.vishal.manageMoney.dto.LoanResponseDTO(l.id, l.type, l.lender, l.description, l.principal, l.interestRate, l.emi, l.startDate, l.endDate) from Loan l where l.user.id = :userId order by l.startDate desc, l.id desc")
+    List<LoanResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    // one of a user's loans selected straight into a response DTO, empty when it belongs to someone else
+    @Query("select new com.vishal.manageMoney.dto.LoanResponseDTO(l.id, l.type, l.lender, l.description, l.principal, l.interestRate, l.emi, l.startDate, l.endDate) from Loan l where l.id = :id and l.user.id = :userId")
+    Optional<LoanResponseDTO> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // principal and EMI totals by type for a user's loans that are active at some point in the date range
+    @Query("select l.type as label, sum(l.principal) as principal, sum(l.emi) as emi from Loan l "
+            + "where l.user.id = :userId and l.startDate <= :to and l.endDate >= :from group by l.type")
+    List<LoanTypeTotal> sumByType(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // every loan of a user in date order, read through a database cursor for exports
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Loan> streamByUserIdOrderByStartDateAscIdAsc(Long userId);
+}
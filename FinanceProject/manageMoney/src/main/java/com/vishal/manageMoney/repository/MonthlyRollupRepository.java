@@ -0,0 +1,75 @@
+package com.vishal.manageMoney.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.vishal.manageMoney.entity.MonthlyRollup;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.projection.LabelTotal;
+import com.vishal.manageMoney.repository.projection.MonthlyTotal;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    // adds the deltas to a bucket, creating it on first use, in a single statement
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (user_id, month_start, kind, category, total_minor, entry_count) "
+            + "VALUES (:userId, :monthStart, :kind, :category, :amount, :count) "
+            + "ON CONFLICT (user_id, month_start, kind, category) DO UPDATE "
+            + "SET total_minor = monthly_rollups.total_minor + EXCLUDED.total_minor, "
+            + "entry_count = monthly_rollups.entry_count + EXCLUDED.entry_count",
+            nativeQuery = true)
+    int addToBucket(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart,
+                    @Param("kind") String kind, @Param("category") String category,
+                    @Param("amount") long amount, @Param("count") long count);
+
+    // bucket totals of one kind, by category, for the months in a range
+    @Query("select r.category as label, sum(r.totalMinor) as total from MonthlyRollup r "
+            + "where r.userId = :userId and r.kind = :kind and r.monthStart between :from and :to "
+            + "group by r.category having sum(r.entryCount) > 0")
+    List<LabelTotal> sumByCategory(@Param("userId") Long userId, @Param("kind") RollupKind kind,
+                                   @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // bucket totals of one kind, by month, for the months in a range
+    @Query("select year(r.monthStart) as year, month(r.monthStart) as month, sum(r.totalMinor) as total from MonthlyRollup r "
+            + "where r.userId = :userId and r.kind = :kind and r.monthStart between :from and :to "
+            + "group by year(r.monthStart), month(r.monthStart) having sum(r.entryCount) > 0")
+    List<MonthlyTotal> sumByMonth(@Param("userId") Long userId, @Param("kind") RollupKind kind,
+                                  @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from MonthlyRollup r where r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // Rebuild statements recompute a user's buckets from the source tables
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (user_id, month_start, kind, category, total_minor, entry_count) "
+            + "SELECT user_id, CAST(date_trunc('month', date) AS DATE), 'EXPENSE', category, "
+            + "SUM(amount_minor), COUNT(*) FROM expenses WHERE user_id = :userId "
+            + "GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), category",
+            nativeQuery = true)
+    int rebuildExpenses(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (user_id, month_start, kind, category, total_minor, entry_count) "
+            + "SELECT user_id, CAST(date_trunc('month', date) AS DATE), 'INCOME', source, "
+            + "SUM(amount_minor), COUNT(*) FROM incomes WHERE user_id = :userId "
+            + "GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), source",
+            nativeQuery = true)
+    int rebuildIncomes(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (user_id, month_start, kind, category, total_minor, entry_count) "
+            + "SELECT user_id, CAST(date_trunc('month', date) AS DATE), 'INVESTMENT', type, "
+            + "SUM(amount_minor), COUNT(*) FROM investments WHERE user_id = :userId "
+            + "GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), type",
+            nativeQuery = true)
+    int rebuildInvestments(@Param("userId") Long userId);
+}
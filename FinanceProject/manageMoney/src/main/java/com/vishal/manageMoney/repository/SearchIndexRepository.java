@@ -0,0 +1,222 @@
+package com.vishal.manageMoney.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.vishal.manageMoney.entity.RollupKind;
+
+// search_postings / search_vocabulary access. Plain JDBC rather than entities: writes are multi-row batches and
+// upserts issued alongside the caller's JPA writes (same transaction), and reads never need managed objects.
+@Repository
+public class SearchIndexRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public SearchIndexRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    // One term of one transaction
+    public record Posting(String term, RollupKind kind, long txnId, LocalDate date) {
+    }
+
+    // One distinct term of a user and how many of their transactions contain it
+    public record VocabularyTerm(String term, long docCount) {
+    }
+
+    // A vocabulary term standing in for the query word at queryIndex, with the weight a match on it earns
+    public record TermWeight(String term, int queryIndex, double weight) {
+    }
+
+    public record Match(RollupKind kind, long txnId, LocalDate date, double score) {
+    }
+
+    // The top matches and how many transactions matched in all
+    public record MatchPage(List<Match> matches, long total) {
+    }
+
+    // The indexed text of one transaction, as read for a rebuild
+    public record IndexSource(long id, LocalDate date, String description) {
+    }
+
+    @FunctionalInterface
+    public interface IndexSourceHandler {
+        void accept(IndexSource source);
+    }
+
+    // adds postings in one JDBC batch; a posting that already exists is left alone
+    public void addPostings(Long userId, List<Posting> postings) {
+        if (postings.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[postings.size()];
+        for (int i = 0; i < batch.length; i++) {
+            Posting posting = postings.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("userId", userId)
+                    .addValue("term", posting.term())
+                    .addValue("kind", posting.kind().name())
+                    .addValue("txnId", posting.txnId())
+                    .addValue("date", posting.date());
+        }
+        jdbc.batchUpdate("INSERT INTO search_postings (user_id, term, kind, txn_id, txn_date) "
+                + "VALUES (:userId, :term, :kind, :txnId, :date) ON CONFLICT DO NOTHING", batch);
+    }
+
+    // applies doc_count deltas in one JDBC batch, creating vocabulary rows on first use.
+    // Deltas arrive in term order so concurrent writers for the same user lock rows in the same order.
+    public void adjustDocCounts(Long userId, SortedMap<String, Long> deltas) {
+        List<SqlParameterSource> batch = new ArrayList<>(deltas.size());
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                batch.add(new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("term", delta.getKey())
+                        .addValue("delta", delta.getValue()));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO search_vocabulary (user_id, term, doc_count) VALUES (:userId, :term, :delta) "
+                + "ON CONFLICT (user_id, term) DO UPDATE SET doc_count = search_vocabulary.doc_count + EXCLUDED.doc_count",
+                batch.toArray(SqlParameterSource[]::new));
+    }
+
+    // removes every posting of one transaction and returns the terms it had
+    public List<String> deletePostings(Long userId, RollupKind kind, long txnId) {
+        return jdbc.queryForList("DELETE FROM search_postings WHERE user_id = :userId AND kind = :kind AND txn_id = :txnId "
+                + "RETURNING term", txnParams(userId, kind, txnId), String.class);
+    }
+
+    // moves one transaction's postings to a new date
+    public int redatePostings(Long userId, RollupKind kind, long txnId, LocalDate date) {
+        return jdbc.update("UPDATE search_postings SET txn_date = :date "
+                + "WHERE user_id = :userId AND kind = :kind AND txn_id = :txnId",
+                txnParams(userId, kind, txnId).addValue("date", date));
+    }
+
+    // the user's live terms in [fromTerm, toTerm), read off the primary key
+    public List<VocabularyTerm> findVocabulary(Long userId, String fromTerm, String toTerm) {
+        return jdbc.query("SELECT term, doc_count FROM search_vocabulary "
+                + "WHERE user_id = :userId AND term >= :fromTerm AND term < :toTerm AND doc_count > 0",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("fromTerm", fromTerm)
+                        .addValue("toTerm", toTerm),
+                (rs, rowNum) -> new VocabularyTerm(rs.getString(1), rs.getLong(2)));
+    }
+
+    // the best-scoring transactions for a set of weighted terms, optionally narrowed to some kinds and a date range.
+    // A transaction scores the sum, over query words, of its best-weighted term for that word; the grouping,
+    // ranking and limit all run in the database so only the top rows come back.
+    public MatchPage findTopMatches(Long userId, List<TermWeight> weights, Collection<RollupKind> kinds,
+                                    LocalDate from, LocalDate to, int limit) {
+        if (weights.isEmpty() || kinds.isEmpty()) {
+            return new MatchPage(List.of(), 0);
+        }
+        String[] terms = new String[weights.size()];
+        Integer[] queryIndexes = new Integer[weights.size()];
+        Double[] termWeights = new Double[weights.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = weights.get(i).term();
+            queryIndexes[i] = weights.get(i).queryIndex();
+            termWeights[i] = weights.get(i).weight();
+        }
+        StringBuilder filters = new StringBuilder();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("terms", array("text", terms), Types.ARRAY)
+                .addValue("queryIndexes", array("int4", queryIndexes), Types.ARRAY)
+                .addValue("weights", array("float8", termWeights), Types.ARRAY)
+                .addValue("limit", limit);
+        if (kinds.size() < RollupKind.values().length) {
+            filters.append(" AND p.kind IN (:kinds)");
+            params.addValue("kinds", kinds.stream().map(RollupKind::name).toList());
+        }
+        if (from != null) {
+            filters.append(" AND p.txn_date >= :from");
+            params.addValue("from", from);
+        }
+        if (to != null) {
+            filters.append(" AND p.txn_date <= :to");
+            params.addValue("to", to);
+        }
+        String sql = "SELECT b.kind, b.txn_id, MAX(b.txn_date) AS txn_date, SUM(b.best) AS score, COUNT(*) OVER () AS total "
+                + "FROM (SELECT p.kind, p.txn_id, p.txn_date, MAX(w.weight) AS best "
+                + "      FROM unnest(:terms, :queryIndexes, :weights) AS w(term, query_index, weight) "
+                + "      JOIN search_postings p ON p.user_id = :userId AND p.term = w.term COLLATE \"C\"" + filters
+                + "      GROUP BY p.kind, p.txn_id, p.txn_date, w.query_index) b "
+                + "GROUP BY b.kind, b.txn_id "
+                + "ORDER BY score DESC, txn_date DESC, b.kind, b.txn_id DESC "
+                + "LIMIT :limit";
+        long[] total = { 0 };
+        List<Match> matches = jdbc.query(sql, params, (rs, rowNum) -> {
+            total[0] = rs.getLong(5);
+            return new Match(RollupKind.valueOf(rs.getString(1)), rs.getLong(2), rs.getObject(3, LocalDate.class),
+                    rs.getDouble(4));
+        });
+        return new MatchPage(matches, total[0]);
+    }
+
+    public void deleteByUserId(Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+        jdbc.update("DELETE FROM search_postings WHERE user_id = :userId", params);
+        jdbc.update("DELETE FROM search_vocabulary WHERE user_id = :userId", params);
+    }
+
+    // reads (id, date, description) of every transaction of one kind through a cursor, for rebuilds
+    public void forEachSource(Long userId, RollupKind kind, IndexSourceHandler handler) {
+        String sql = switch (kind) {
+            case EXPENSE -> "SELECT id, date, description FROM expenses WHERE user_id = ?";
+            case INCOME -> "SELECT id, date, description FROM incomes WHERE user_id = ?";
+            case INVESTMENT -> "SELECT id, date, description FROM investments WHERE user_id = ?";
+            case LOAN -> "SELECT id, start_date, description FROM loans WHERE user_id = ?";
+        };
+        jdbc.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setLong(1, userId);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.accept(toSource(rs)));
+    }
+
+    private static IndexSource toSource(ResultSet rs) throws SQLException {
+        return new IndexSource(rs.getLong(1), rs.getObject(2, LocalDate.class), rs.getString(3));
+    }
+
+    private static SqlTypeValue array(String elementType, Object[] elements) {
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName) throws SQLException {
+                return connection.createArrayOf(elementType, elements);
+            }
+        };
+    }
+
+    private static MapSqlParameterSource txnParams(Long userId, RollupKind kind, long txnId) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("kind", kind.name())
+                .addValue("txnId", txnId);
+    }
+}
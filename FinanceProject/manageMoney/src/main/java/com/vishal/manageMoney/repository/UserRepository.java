@@ -1,13 +1,21 @@
 package com.vishal.manageMoney.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.vishal.manageMoney.entity.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // read-write transaction so logins always see the primary, never a lagging replica
+    @Transactional
     public Optional<User> findByEmail(String email);
+
+    @Query("select u.id from User u order by u.id")
+    public List<Long> findAllIds();
 }
@@ -0,0 +1,12 @@
+package com.vishal.manageMoney.repository.projection;
+
+import java.time.LocalDate;
+
+import com.vishal.manageMoney.utils.Money;
+
+// The fields an imported row is compared on when skipping duplicates
+public interface DedupSource {
+    LocalDate getDate();
+    Money getAmount();
+    String getDescription();
+}
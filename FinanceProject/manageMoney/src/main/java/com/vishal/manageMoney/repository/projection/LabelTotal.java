@@ -0,0 +1,7 @@
+package com.vishal.manageMoney.repository.projection;
+
+// Sum of amounts, in paise, grouped by a text column (category, source or type)
+public interface LabelTotal {
+    String getLabel();
+    Long getTotal();
+}
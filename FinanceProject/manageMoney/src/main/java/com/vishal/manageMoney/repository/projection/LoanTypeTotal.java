@@ -0,0 +1,8 @@
+package com.vishal.manageMoney.repository.projection;
+
+// Principal and EMI sums, in paise, grouped by loan type
+public interface LoanTypeTotal {
+    String getLabel();
+    Long getPrincipal();
+    Long getEmi();
+}
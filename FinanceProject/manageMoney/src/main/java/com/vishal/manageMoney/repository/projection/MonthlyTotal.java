@@ -0,0 +1,8 @@
+package com.vishal.manageMoney.repository.projection;
+
+// Sum of amounts, in paise, grouped by calendar month
+public interface MonthlyTotal {
+    Integer getYear();
+    Integer getMonth();
+    Long getTotal();
+}
@@ -0,0 +1,61 @@
+package com.vishal.manageMoney.repository.specification;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+// One page of a specification's matches selected straight into a DTO constructor, so no entity is loaded into the
+// persistence context just to be copied and thrown away. Like JpaSpecificationExecutor.findAll(spec, pageable),
+// the count query is skipped when the page itself shows the total.
+public final class DtoPageQuery {
+
+    private DtoPageQuery() {
+    }
+
+    // attributes are passed to the DTO constructor in order
+    public static <T, D> Page<D> find(EntityManager entityManager, Class<T> entityType, Specification<T> spec,
+                                      Pageable pageable, Class<D> dtoType, String... attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<D> query = cb.createQuery(dtoType);
+        Root<T> root = query.from(entityType);
+        Selection<?>[] columns = new Selection<?>[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            columns[i] = root.get(attributes[i]);
+        }
+        query.select(cb.construct(dtoType, columns));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<D> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, entityType, spec));
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> entityType, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
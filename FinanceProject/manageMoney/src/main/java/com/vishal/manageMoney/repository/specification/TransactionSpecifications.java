@@ -0,0 +1,92 @@
+package com.vishal.manageMoney.repository.specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.vishal.manageMoney.dto.TransactionFilterDTO;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.utils.Money;
+
+// Dynamic filter predicates shared by Expense and Income, which both have user, date, category and amount.
+// A criterion that was not given yields a null specification, which composition skips, so the generated
+// WHERE clause only carries what was asked for and can be served by the matching V6 index.
+public final class TransactionSpecifications {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
+    private TransactionSpecifications() {
+    }
+
+    // user, date range, category and amount range of the filter, validated
+    public static <T> Specification<T> matching(Long userId, TransactionFilterDTO filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        Money minAmount = toMoney("minAmount", filter.getMinAmount());
+        Money maxAmount = toMoney("maxAmount", filter.getMaxAmount());
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("minAmount must not be greater than maxAmount");
+        }
+
+        return TransactionSpecifications.<T>ownedBy(userId)
+                .and(onOrAfter(filter.getFrom()))
+                .and(onOrBefore(filter.getTo()))
+                .and(attributeEquals("category", filter.getCategory()))
+                .and(amountAtLeast(minAmount))
+                .and(amountAtMost(maxAmount));
+    }
+
+    // the requested page, newest first with id as the tie-breaker so pages never overlap
+    public static PageRequest pageRequest(TransactionFilterDTO filter) {
+        int page = filter.getPage() == null ? 0 : filter.getPage();
+        if (page < 0) {
+            throw new IllegalArgumentException("Page number must not be negative");
+        }
+        int size = KeysetCursor.limit(filter.getSize()).max();
+        // The JPA query takes its offset as an int
+        if ((long) page * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page number is too large");
+        }
+        return PageRequest.of(page, size, NEWEST_FIRST);
+    }
+
+    public static <T> Specification<T> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static <T> Specification<T> onOrAfter(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), from);
+    }
+
+    public static <T> Specification<T> onOrBefore(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), to);
+    }
+
+    // exact match on a string attribute; blank means "any"
+    public static <T> Specification<T> attributeEquals(String attribute, String value) {
+        return value == null || value.isBlank() ? null : (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    public static <T> Specification<T> amountAtLeast(Money min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), min);
+    }
+
+    public static <T> Specification<T> amountAtMost(Money max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), max);
+    }
+
+    private static Money toMoney(String name, BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Money.of(value);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(name + " is out of range");
+        }
+    }
+}
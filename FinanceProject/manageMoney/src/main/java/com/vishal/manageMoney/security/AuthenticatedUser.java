@@ -0,0 +1,25 @@
+package com.vishal.manageMoney.security;
+
+import java.security.Principal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Principal built straight from verified JWT claims, so authenticating a request needs no database lookup
+@AllArgsConstructor
+@Getter
+public class AuthenticatedUser implements Principal {
+
+    private final Long id;
+    private final String email;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{id=" + id + ", email=" + email + "}";
+    }
+}
@@ -1,6 +1,7 @@
 package com.vishal.manageMoney.security;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.context.WebServerApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,9 +17,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import java.util.Arrays;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+
 @Configuration
 @EnableWebSecurity
 public class WebSecurityConfig {
@@ -64,7 +69,8 @@ public class WebSecurityConfig {
             "Accept",
             "Origin",
             "Access-Control-Request-Method",
-            "Access-Control-Request-Headers"
+            "Access-Control-Request-Headers",
+            "If-None-Match"
         ));
 
         // ✅ Allow cookies and credentials
@@ -73,7 +79,8 @@ public class WebSecurityConfig {
         // ✅ Expose headers to frontend
         configuration.setExposedHeaders(Arrays.asList(
             "Access-Control-Allow-Origin",
-            "Access-Control-Allow-Credentials"
+            "Access-Control-Allow-Credentials",
+            "ETag"
         ));
 
         // ✅ Cache preflight response for 1 hour
@@ -91,7 +98,13 @@ public class WebSecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Streamed responses finish on an async dispatch; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                // Probes carry no token: /livez and /readyz on the public port, plus health when actuator shares it
+                .requestMatchers("/livez", "/readyz", "/actuator/health").permitAll()
+                // The metrics scraper carries none either, so it is only let in on the internal management port
+                .requestMatchers(WebSecurityConfig::onManagementServer).permitAll()
                 .anyRequest().authenticated()
             )
             .userDetailsService(userDetailsService)
@@ -99,4 +112,11 @@ public class WebSecurityConfig {
 
         return http.build();
     }
+
+    // True for requests served by the separate management server (management.server.port), which is kept off the
+    // public network; with no separate port every actuator endpoint but health needs a token
+    private static boolean onManagementServer(HttpServletRequest request) {
+        return WebServerApplicationContext.hasServerNamespace(
+                WebApplicationContextUtils.getWebApplicationContext(request.getServletContext()), "management");
+    }
 }
@@ -7,9 +7,7 @@ import com.vishal.manageMoney.entity.User;
 import com.vishal.manageMoney.repository.UserRepository;
 import com.vishal.manageMoney.utils.JwtUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -21,23 +19,21 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
-
-    @Autowired
-    private AuthenticationManager authenticationManager;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtUtils jwtUtils;
 
     public AuthResponse login(LoginRequest loginRequest) {
-        // Authenticate user
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
-        );
-
-        // Get user details
-        User user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Load the user once and reuse it for both the password check and the token
+        User user = userRepository.findByEmail(loginRequest.getEmail()).orElse(null);
+
+        // Unknown emails are still checked against a dummy hash so they take as long as wrong passwords
+        boolean passwordMatches = passwordHashingService.matches(
+                loginRequest.getPassword(), user != null ? user.getPassword() : null);
+        if (user == null || !passwordMatches) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
         // Generate JWT token using id and username
         String jwt = jwtUtils.generateJwtToken(user.getId(), user.getEmail());
@@ -54,7 +50,7 @@ public class AuthService {
         // Create new user
         User user = new User();
         user.setEmail(registerRequest.getEmail());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setPassword(passwordHashingService.encode(registerRequest.getPassword()));
         user.setFullName(registerRequest.getFullName());
         user.setPhone(registerRequest.getPhone());
         user.setCreatedAt(LocalDateTime.now());
@@ -0,0 +1,54 @@
+package com.vishal.manageMoney.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.vishal.manageMoney.exception.BatchValidationException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Validates every item of a bulk request up front so a batch is either written whole or not at all
+@Component
+public class BatchValidator {
+
+    private final Validator validator;
+    private final int maxItems;
+
+    public BatchValidator(Validator validator, @Value("${app.bulk.maxItems:1000}") int maxItems) {
+        this.validator = validator;
+        this.maxItems = maxItems;
+    }
+
+    public <T> void validate(List<T> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BatchValidationException("Batch is empty", List.of());
+        }
+        if (items.size() > maxItems) {
+            throw new BatchValidationException(
+                    "Batch has " + items.size() + " items, the limit is " + maxItems, List.of());
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            if (item == null) {
+                errors.add("[" + i + "] item is required");
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(item);
+            int index = i;
+            violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .forEach(v -> errors.add("[" + index + "] " + v.getPropertyPath() + ": " + v.getMessage()));
+        }
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException("Batch validation failed for " + errors.size() + " field(s)", errors);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.vishal.manageMoney.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.vishal.manageMoney.dto.Versioned;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.CollectionVersionRepository;
+import com.vishal.manageMoney.utils.RequestTiming;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Per-user, per-kind version counters behind the ETags of the list and single-item GET endpoints, and behind
+// the cache of their encoded JSON. Writers call bump() inside their own write transaction; readers compare the
+// client's If-None-Match, then the cached body, with the current version before loading anything.
+@Service
+public class CollectionVersionService {
+
+    private final CollectionVersionRepository versionRepository;
+    private final JsonResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public CollectionVersionService(CollectionVersionRepository versionRepository, JsonResponseCache responseCache,
+                                    ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.versionRepository = versionRepository;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Marks a user's collection of the given kind as changed and drops its cached bodies once the write commits
+    @Transactional
+    public void bump(Long userId, RollupKind kind) {
+        versionRepository.increment(userId, kind);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                responseCache.invalidate(userId, kind);
+            }
+        });
+    }
+
+    // Reads one view of a user's collection as JSON, unless the client already holds its current version.
+    // The version is read before the rows, in the same transaction, so a write committing in between can only
+    // make the body newer than its tag, which costs the client one extra full read and never serves stale data.
+    // The encoded body is cached under that version and reused until the collection changes.
+    @Transactional(readOnly = true)
+    public Versioned<byte[]> readCollection(Long userId, RollupKind kind, String view, String ifNoneMatch,
+                                            Supplier<?> loader) {
+        long version = versionRepository.find(userId, kind);
+        String etag = collectionTag(kind, userId, version);
+        if (matches(ifNoneMatch, etag)) {
+            return Versioned.notModified(etag);
+        }
+        byte[] body = responseCache.get(userId, kind, view, version);
+        if (body == null) {
+            Object dtos = loader.get();
+            long startedAt = System.nanoTime();
+            try {
+                body = objectMapper.writeValueAsBytes(dtos);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not encode " + kind.name().toLowerCase() + " list", e);
+            } finally {
+                // The list DTOs come straight out of the query, so encoding is the only mapping step left
+                long encodeNanos = System.nanoTime() - startedAt;
+                Timer.builder("response.encode")
+                        .tag("kind", kind.name().toLowerCase())
+                        .description("Time to encode a list response as JSON")
+                        .register(meterRegistry)
+                        .record(encodeNanos, TimeUnit.NANOSECONDS);
+                RequestTiming.addSerialization(encodeNanos);
+            }
+            responseCache.put(userId, kind, view, version, body);
+        }
+        return Versioned.of(etag, body);
+    }
+
+    // Reads one of a user's items, tagged with the version of that user's collection. The loader must only find
+    // items the user owns, so the tag always describes the collection the body came from.
+    @Transactional(readOnly = true)
+    public <T> Versioned<T> readItem(Long userId, RollupKind kind, Long id, String ifNoneMatch, Supplier<T> loader) {
+        String etag = collectionTag(kind, userId, versionRepository.find(userId, kind)) + "-" + id;
+        if (matches(ifNoneMatch, etag)) {
+            return Versioned.notModified(etag);
+        }
+        return Versioned.of(etag, loader.get());
+    }
+
+    // Strong tag of the form "expense-<userId>-v<version>"; HTTP quotes are added by ResponseEntity
+    private static String collectionTag(RollupKind kind, Long userId, long version) {
+        return kind.name().toLowerCase() + "-" + userId + "-v" + version;
+    }
+
+    // If-None-Match uses the weak comparison, so W/ prefixes are ignored
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String quoted = "\"" + etag + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
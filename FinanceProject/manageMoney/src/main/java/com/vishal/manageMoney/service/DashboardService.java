@@ -0,0 +1,197 @@
+package com.vishal.manageMoney.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vishal.manageMoney.dto.AmountByLabelDTO;
+import com.vishal.manageMoney.dto.DashboardSummaryDTO;
+import com.vishal.manageMoney.dto.LoanTypeSummaryDTO;
+import com.vishal.manageMoney.dto.MonthlySummaryDTO;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.ExpenseRepository;
+import com.vishal.manageMoney.repository.IncomeRepository;
+import com.vishal.manageMoney.repository.InvestmentRepository;
+import com.vishal.manageMoney.repository.LoanRepository;
+import com.vishal.manageMoney.repository.MonthlyRollupRepository;
+import com.vishal.manageMoney.repository.projection.LabelTotal;
+import com.vishal.manageMoney.repository.projection.LoanTypeTotal;
+import com.vishal.manageMoney.repository.projection.MonthlyTotal;
+import com.vishal.manageMoney.utils.Money;
+import com.vishal.manageMoney.utils.MoneyArrays;
+
+@Service
+public class DashboardService {
+
+    // Bounds used when the caller leaves one end of the date range open
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final InvestmentRepository investmentRepository;
+    private final LoanRepository loanRepository;
+    private final MonthlyRollupRepository rollupRepository;
+
+    public DashboardService(ExpenseRepository expenseRepository, IncomeRepository incomeRepository,
+                            InvestmentRepository investmentRepository, LoanRepository loanRepository,
+                            MonthlyRollupRepository rollupRepository) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.investmentRepository = investmentRepository;
+        this.loanRepository = loanRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    // Builds every dashboard total from aggregates instead of loading the rows.
+    // Ranges made of whole months are answered from monthly_rollups; other ranges group the source tables.
+    @Transactional(readOnly = true)
+    public DashboardSummaryDTO getSummary(Long userId, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : EARLIEST_DATE;
+        LocalDate end = to != null ? to : LATEST_DATE;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        boolean wholeMonths = start.getDayOfMonth() == 1 && end.equals(YearMonth.from(end).atEndOfMonth());
+
+        LabelTotals expensesByCategory = LabelTotals.of(wholeMonths
+                ? rollupRepository.sumByCategory(userId, RollupKind.EXPENSE, start, end)
+                : expenseRepository.sumAmountByCategory(userId, start, end));
+        LabelTotals incomeBySource = LabelTotals.of(wholeMonths
+                ? rollupRepository.sumByCategory(userId, RollupKind.INCOME, start, end)
+                : incomeRepository.sumAmountBySource(userId, start, end));
+        LabelTotals investmentsByType = LabelTotals.of(wholeMonths
+                ? rollupRepository.sumByCategory(userId, RollupKind.INVESTMENT, start, end)
+                : investmentRepository.sumAmountByType(userId, start, end));
+        LoanTotals loansByType = LoanTotals.of(loanRepository.sumByType(userId, start, end));
+
+        List<MonthlySummaryDTO> monthly = wholeMonths
+                ? toMonthly(
+                        rollupRepository.sumByMonth(userId, RollupKind.INCOME, start, end),
+                        rollupRepository.sumByMonth(userId, RollupKind.EXPENSE, start, end),
+                        rollupRepository.sumByMonth(userId, RollupKind.INVESTMENT, start, end))
+                : toMonthly(
+                        incomeRepository.sumAmountByMonth(userId, start, end),
+                        expenseRepository.sumAmountByMonth(userId, start, end),
+                        investmentRepository.sumAmountByMonth(userId, start, end));
+
+        DashboardSummaryDTO summary = new DashboardSummaryDTO();
+        summary.setFrom(from);
+        summary.setTo(to);
+        summary.setTotalIncome(Money.ofMinor(MoneyArrays.sum(incomeBySource.totals())));
+        summary.setTotalExpenses(Money.ofMinor(MoneyArrays.sum(expensesByCategory.totals())));
+        summary.setTotalInvestments(Money.ofMinor(MoneyArrays.sum(investmentsByType.totals())));
+        summary.setTotalPrincipal(Money.ofMinor(MoneyArrays.sum(loansByType.principal())));
+        summary.setTotalEmi(Money.ofMinor(MoneyArrays.sum(loansByType.emi())));
+        summary.setExpensesByCategory(expensesByCategory.toDTOs());
+        summary.setIncomeBySource(incomeBySource.toDTOs());
+        summary.setInvestmentsByType(investmentsByType.toDTOs());
+        summary.setLoansByType(loansByType.toDTOs());
+        summary.setMonthly(monthly);
+        return summary;
+    }
+
+    // Merges the per-kind monthly sums into one chronological series, indexed by months since the earliest one
+    private List<MonthlySummaryDTO> toMonthly(List<MonthlyTotal> income, List<MonthlyTotal> expenses,
+                                              List<MonthlyTotal> investments) {
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (List<MonthlyTotal> totals : List.of(income, expenses, investments)) {
+            for (MonthlyTotal total : totals) {
+                first = Math.min(first, monthIndex(total));
+                last = Math.max(last, monthIndex(total));
+            }
+        }
+        if (first > last) {
+            return List.of();
+        }
+
+        int span = last - first + 1;
+        boolean[] present = new boolean[span];
+        long[] incomeByMonth = new long[span];
+        long[] expensesByMonth = new long[span];
+        long[] investmentsByMonth = new long[span];
+        fill(income, first, incomeByMonth, present);
+        fill(expenses, first, expensesByMonth, present);
+        fill(investments, first, investmentsByMonth, present);
+
+        List<MonthlySummaryDTO> months = new ArrayList<>();
+        for (int i = 0; i < span; i++) {
+            if (present[i]) {
+                int index = first + i;
+                months.add(new MonthlySummaryDTO(YearMonth.of(index / 12, index % 12 + 1).toString(),
+                        Money.ofMinor(incomeByMonth[i]), Money.ofMinor(expensesByMonth[i]),
+                        Money.ofMinor(investmentsByMonth[i])));
+            }
+        }
+        return months;
+    }
+
+    private static void fill(List<MonthlyTotal> totals, int first, long[] amounts, boolean[] present) {
+        for (MonthlyTotal total : totals) {
+            int i = monthIndex(total) - first;
+            amounts[i] = Math.addExact(amounts[i], minor(total.getTotal()));
+            present[i] = true;
+        }
+    }
+
+    private static int monthIndex(MonthlyTotal total) {
+        return total.getYear() * 12 + total.getMonth() - 1;
+    }
+
+    private static long minor(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    // Label totals as parallel arrays, so ordering and summing run on primitive paise
+    private record LabelTotals(String[] labels, long[] totals) {
+
+        static LabelTotals of(List<LabelTotal> rows) {
+            String[] labels = new String[rows.size()];
+            long[] totals = new long[rows.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = rows.get(i).getLabel();
+                totals[i] = minor(rows.get(i).getTotal());
+            }
+            return new LabelTotals(labels, totals);
+        }
+
+        // Largest buckets first, which is the order the charts draw them in
+        List<AmountByLabelDTO> toDTOs() {
+            List<AmountByLabelDTO> dtos = new ArrayList<>(labels.length);
+            for (int i : MoneyArrays.descendingOrder(totals)) {
+                dtos.add(new AmountByLabelDTO(labels[i], Money.ofMinor(totals[i])));
+            }
+            return dtos;
+        }
+    }
+
+    private record LoanTotals(String[] labels, long[] principal, long[] emi) {
+
+        static LoanTotals of(List<LoanTypeTotal> rows) {
+            String[] labels = new String[rows.size()];
+            long[] principal = new long[rows.size()];
+            long[] emi = new long[rows.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = rows.get(i).getLabel();
+                principal[i] = minor(rows.get(i).getPrincipal());
+                emi[i] = minor(rows.get(i).getEmi());
+            }
+            return new LoanTotals(labels, principal, emi);
+        }
+
+        // Largest principal first
+        List<LoanTypeSummaryDTO> toDTOs() {
+            List<LoanTypeSummaryDTO> dtos = new ArrayList<>(labels.length);
+            for (int i : MoneyArrays.descendingOrder(principal)) {
+                dtos.add(new LoanTypeSummaryDTO(labels[i], Money.ofMinor(principal[i]), Money.ofMinor(emi[i])));
+            }
+            return dtos;
+        }
+    }
+}
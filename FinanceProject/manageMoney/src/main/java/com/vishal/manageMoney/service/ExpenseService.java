@@ -1,22 +1,29 @@
 package com.vishal.manageMoney.service;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
+import com.vishal.manageMoney.dto.CursorPage;
 import com.vishal.manageMoney.dto.ExpenseRequestDTO;
 import com.vishal.manageMoney.dto.ExpenseResponseDTO;
 import com.vishal.manageMoney.dto.ExpenseUpdateDTO;
+import com.vishal.manageMoney.dto.PageResponseDTO;
+import com.vishal.manageMoney.dto.TransactionFilterDTO;
 import com.vishal.manageMoney.entity.Expense;
-import com.vishal.manageMoney.entity.User;
+import com.vishal.manageMoney.entity.RollupKind;
 import com.vishal.manageMoney.repository.UserRepository;
-import com.vishal.manageMoney.utils.JwtUtils;
-
-import jakarta.servlet.http.HttpServletRequest;
-
+import com.vishal.manageMoney.repository.specification.TransactionSpecifications;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.utils.Money;
 import com.vishal.manageMoney.repository.ExpenseRepository;
 
 @Service
@@ -24,16 +31,24 @@ public class ExpenseService {
 
     private final ExpenseRepository expenseRepository;
     private final UserRepository userRepository;
-    private final JwtUtils jwtUtils;
+    private final RollupService rollupService;
+    private final SearchIndexService searchIndexService;
+    private final CollectionVersionService collectionVersionService;
+    private final BatchValidator batchValidator;
 
     // setting up logger instance
     private static final Logger logger = LoggerFactory.getLogger(ExpenseService.class);
 
     // constructor injection
-    public ExpenseService(ExpenseRepository expenseRepository, UserRepository userRepository, JwtUtils jwtUtils) {
+    public ExpenseService(ExpenseRepository expenseRepository, UserRepository userRepository,
+                          RollupService rollupService, SearchIndexService searchIndexService,
+                          CollectionVersionService collectionVersionService, BatchValidator batchValidator) {
         this.expenseRepository = expenseRepository;
         this.userRepository = userRepository;
-        this.jwtUtils = jwtUtils;
+        this.rollupService = rollupService;
+        this.searchIndexService = searchIndexService;
+        this.collectionVersionService = collectionVersionService;
+        this.batchValidator = batchValidator;
     }
 
     // Convert Expense to ExpenseResponseDTO
@@ -43,53 +58,91 @@ public class ExpenseService {
     }
 
     // methods for adding expenses
-    public ExpenseResponseDTO addExpense(ExpenseRequestDTO request) {
-
-        // Extract token from current request
-        HttpServletRequest httpRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
-                .getRequest();
-        String authHeader = httpRequest.getHeader("Authorization");
+    @Transactional
+    public ExpenseResponseDTO addExpense(Long userId, ExpenseRequestDTO request) {
+        Expense expense = toEntity(userId, request);
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new RuntimeException("Missing or invalid Authorization header");
-        }
+        logger.info("Saving expense: " + expense);
+        Expense savedExpense = expenseRepository.save(expense);
+        rollupService.add(userId, RollupKind.EXPENSE, savedExpense.getDate(), savedExpense.getCategory(), savedExpense.getAmount());
+        searchIndexService.add(userId, RollupKind.EXPENSE, savedExpense.getId(), savedExpense.getDate(), savedExpense.getDescription());
+        collectionVersionService.bump(userId, RollupKind.EXPENSE);
+        return convertToResponseDTO(savedExpense);
+    }
 
-        String token = authHeader.substring(7); // Remove "Bearer " prefix
-        Long userId = jwtUtils.getUserIdFromJwtToken(token);
+    // methods for adding many expenses at once; the whole batch is validated, then inserted in JDBC batches
+    @Transactional
+    public BulkCreateResponseDTO addExpenses(Long userId, List<ExpenseRequestDTO> requests) {
+        batchValidator.validate(requests);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<Expense> expenses = requests.stream()
+                .map(request -> toEntity(userId, request))
+                .collect(java.util.stream.Collectors.toList());
+        List<Expense> savedExpenses = expenseRepository.saveAll(expenses);
+        rollupService.addAll(userId, RollupKind.EXPENSE, savedExpenses,
+                Expense::getDate, Expense::getCategory, Expense::getAmount);
+        searchIndexService.addAll(userId, RollupKind.EXPENSE, savedExpenses,
+                Expense::getId, Expense::getDate, Expense::getDescription);
+        collectionVersionService.bump(userId, RollupKind.EXPENSE);
+
+        logger.info("Saved {} expenses for userId: {}", savedExpenses.size(), userId);
+        List<Long> ids = savedExpenses.stream().map(Expense::getId).collect(java.util.stream.Collectors.toList());
+        return new BulkCreateResponseDTO(ids.size(), ids);
+    }
 
+    private Expense toEntity(Long userId, ExpenseRequestDTO request) {
         Expense expense = new Expense();
 
-        logger.info(user.toString());
-
         expense.setAmount(request.getAmount());
         expense.setDescription(request.getDescription());
         expense.setDate(request.getDate());
         expense.setCategory(request.getCategory());
         expense.setPaymentMode(request.getPaymentMode());
 
-        expense.setUser(user);
-
-        logger.info("Saving expense: " + expense);
-        return convertToResponseDTO(expenseRepository.save(expense));
+        // Reference proxy: the owner is attached by id without selecting the user row
+        expense.setUser(userRepository.getReferenceById(userId));
+        return expense;
     }
 
-    // get all expense of a user by id
+    // get all expense of a user by id (selected straight into DTOs; read-only, so Hibernate never flushes)
+    @Transactional(readOnly = true)
     public List<ExpenseResponseDTO> getAllExpensesByUserId(Long userId) {
-        List<Expense> expenses = expenseRepository.findExpenseByUserId(userId);
-        return expenses.stream()
-                .map(this::convertToResponseDTO)
-                .collect(java.util.stream.Collectors.toList());
+        return expenseRepository.findResponsesByUserId(userId);
+    }
+
+    // get one keyset page of a user's expenses
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseResponseDTO> getExpensesPage(Long userId, String cursor, Integer size, String sort) {
+        KeysetCursor keyset = KeysetCursor.of(cursor, sort);
+        Limit limit = KeysetCursor.limit(size);
+        List<ExpenseResponseDTO> rows = keyset.isAscending()
+                ? expenseRepository.findResponsePageAsc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit))
+                : expenseRepository.findResponsePageDesc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit));
+        return keyset.toPage(rows, limit, ExpenseResponseDTO::getDate, ExpenseResponseDTO::getId);
+    }
+
+    // get one page of a user's expenses matching the filter, with the total number of matches
+    @Transactional(readOnly = true)
+    public PageResponseDTO<ExpenseResponseDTO> filterExpenses(Long userId, TransactionFilterDTO filter) {
+        Specification<Expense> spec = TransactionSpecifications.<Expense>matching(userId, filter)
+                .and(TransactionSpecifications.attributeEquals("paymentMode", filter.getPaymentMode()));
+        Page<ExpenseResponseDTO> page = expenseRepository.findResponsePage(spec, TransactionSpecifications.pageRequest(filter));
+        return new PageResponseDTO<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
     }
 
     // to update an expense
+    @Transactional
     public ExpenseResponseDTO updateExpense(Long id, ExpenseUpdateDTO dto) {
         // Fetch the existing expense from the database
         Expense expense = expenseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Expense not found"));
 
+        // Remember the current rollup bucket and indexed text before the fields change
+        LocalDate oldDate = expense.getDate();
+        String oldCategory = expense.getCategory();
+        Money oldAmount = expense.getAmount();
+        String oldDescription = expense.getDescription();
         
         if (dto.getDescription() != null)
             expense.setDescription(dto.getDescription());
@@ -104,6 +157,12 @@ public class ExpenseService {
 
         // Save the updated entity (JPA will update the record if the entity is managed)
         Expense updatedExpense = expenseRepository.save(expense);
+        rollupService.move(updatedExpense.getUser().getId(), RollupKind.EXPENSE,
+                oldDate, oldCategory, oldAmount,
+                updatedExpense.getDate(), updatedExpense.getCategory(), updatedExpense.getAmount());
+        searchIndexService.update(updatedExpense.getUser().getId(), RollupKind.EXPENSE, updatedExpense.getId(),
+                oldDate, oldDescription, updatedExpense.getDate(), updatedExpense.getDescription());
+        collectionVersionService.bump(updatedExpense.getUser().getId(), RollupKind.EXPENSE);
 
         // Convert the updated entity to a response DTO and return it
         return convertToResponseDTO(updatedExpense);
@@ -111,15 +170,21 @@ public class ExpenseService {
 
 
     // to delete an expense
+    @Transactional
     public String deleteExpense(Long id) {
-        expenseRepository.deleteById(id);
+        expenseRepository.findById(id).ifPresent(expense -> {
+            rollupService.remove(expense.getUser().getId(), RollupKind.EXPENSE,
+                    expense.getDate(), expense.getCategory(), expense.getAmount());
+            searchIndexService.remove(expense.getUser().getId(), RollupKind.EXPENSE, expense.getId());
+            collectionVersionService.bump(expense.getUser().getId(), RollupKind.EXPENSE);
+            expenseRepository.delete(expense);
+        });
         return "Expense deleted successfully";
     }
 
-    // to get an expense by id
-    public ExpenseResponseDTO getExpenseById(Long id) {
-        Expense expense = expenseRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Expense not found"));
-        return convertToResponseDTO(expense);
+    // to get one of a user's expenses by id
+    @Transactional(readOnly = true)
+    public Optional<ExpenseResponseDTO> getExpenseById(Long userId, Long id) {
+        return expenseRepository.findResponseByIdAndUserId(id, userId);
     }
 }
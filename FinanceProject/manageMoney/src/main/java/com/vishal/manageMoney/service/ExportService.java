@@ -0,0 +1,204 @@
+package com.vishal.manageMoney.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.entity.Income;
+import com.vishal.manageMoney.entity.Investment;
+import com.vishal.manageMoney.entity.Loan;
+import com.vishal.manageMoney.repository.ExpenseRepository;
+import com.vishal.manageMoney.repository.IncomeRepository;
+import com.vishal.manageMoney.repository.InvestmentRepository;
+import com.vishal.manageMoney.repository.LoanRepository;
+import com.vishal.manageMoney.utils.Money;
+
+import jakarta.persistence.EntityManager;
+
+// Writes a user's whole history straight from database cursors to the response, one row at a time,
+// so an export never holds more than the current row in memory
+@Service
+public class ExportService {
+
+    public static final String CSV = "csv";
+    public static final String NDJSON = "ndjson";
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    // One column set for every kind; fields a kind does not have are left empty
+    private static final String[] COLUMNS = {
+            "kind", "id", "date", "endDate", "category", "description", "amount",
+            "paymentMode", "counterparty", "interestRate", "emi"
+    };
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final InvestmentRepository investmentRepository;
+    private final LoanRepository loanRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public ExportService(ExpenseRepository expenseRepository, IncomeRepository incomeRepository,
+                         InvestmentRepository investmentRepository, LoanRepository loanRepository,
+                         EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.investmentRepository = investmentRepository;
+        this.loanRepository = loanRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public static String normaliseFormat(String format) {
+        String normalised = format == null ? CSV : format.trim().toLowerCase(Locale.ROOT);
+        if (!CSV.equals(normalised) && !NDJSON.equals(normalised)) {
+            throw new IllegalArgumentException("Unsupported export format: " + format + " (use csv or ndjson)");
+        }
+        return normalised;
+    }
+
+    // The body runs after the controller returns; the read-only transaction keeps the cursors open while it writes
+    public StreamingResponseBody export(Long userId, String format) {
+        String normalised = normaliseFormat(format);
+        return outputStream -> {
+            long started = System.currentTimeMillis();
+            try {
+                long rows = readOnlyTemplate.execute(status -> {
+                    try {
+                        return CSV.equals(normalised) ? writeCsv(userId, outputStream) : writeNdjson(userId, outputStream);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                logger.info("Exported {} rows as {} for userId: {} in {} ms",
+                        rows, normalised, userId, System.currentTimeMillis() - started);
+            } catch (UncheckedIOException e) {
+                // Usually the client went away mid-download
+                throw e.getCause();
+            }
+        };
+    }
+
+    private long writeCsv(Long userId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+        long rows = writeAll(userId, row -> {
+            try {
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(csvField(row[i]));
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private long writeNdjson(Long userId, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        long rows = writeAll(userId, row -> {
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < row.length; i++) {
+                    if (row[i] == null) {
+                        continue;
+                    }
+                    generator.writeFieldName(COLUMNS[i]);
+                    if (row[i] instanceof Money money) {
+                        generator.writeNumber(money.toBigDecimal());
+                    } else if (row[i] instanceof Number number) {
+                        generator.writeNumber(number.toString());
+                    } else {
+                        generator.writeString(row[i].toString());
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+        return rows;
+    }
+
+    // Streams each kind in date order; entities are detached as soon as they are written
+    private long writeAll(Long userId, Consumer<Object[]> sink) {
+        long rows = 0;
+        try (Stream<Expense> expenses = expenseRepository.streamByUserIdOrderByDateAscIdAsc(userId)) {
+            rows += drain(expenses, e -> new Object[] {
+                    "EXPENSE", e.getId(), e.getDate(), null, e.getCategory(), e.getDescription(), e.getAmount(),
+                    e.getPaymentMode(), null, null, null }, sink);
+        }
+        try (Stream<Income> incomes = incomeRepository.streamByUserIdOrderByDateAscIdAsc(userId)) {
+            rows += drain(incomes, i -> new Object[] {
+                    "INCOME", i.getId(), i.getDate(), null, i.getCategory(), i.getDescription(), i.getAmount(),
+                    null, i.getSource(), null, null }, sink);
+        }
+        try (Stream<Investment> investments = investmentRepository.streamByUserIdOrderByDateAscIdAsc(userId)) {
+            rows += drain(investments, i -> new Object[] {
+                    "INVESTMENT", i.getId(), i.getDate(), null, i.getType(), i.getDescription(), i.getAmount(),
+                    null, i.getInstitution(), null, null }, sink);
+        }
+        try (Stream<Loan> loans = loanRepository.streamByUserIdOrderByStartDateAscIdAsc(userId)) {
+            rows += drain(loans, l -> new Object[] {
+                    "LOAN", l.getId(), l.getStartDate(), l.getEndDate(), l.getType(), l.getDescription(), l.getPrincipal(),
+                    null, l.getLender(), l.getInterestRate(), l.getEmi() }, sink);
+        }
+        return rows;
+    }
+
+    private <T> long drain(Stream<T> entities, Function<T, Object[]> toRow, Consumer<Object[]> sink) {
+        long[] count = { 0 };
+        entities.forEach(entity -> {
+            sink.accept(toRow.apply(entity));
+            entityManager.detach(entity);
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    // RFC 4180 quoting; a leading formula character is prefixed so spreadsheets show the text instead of evaluating it
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof LocalDate date ? date.toString() : value.toString();
+        if (!(value instanceof Number) && !(value instanceof Money) && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
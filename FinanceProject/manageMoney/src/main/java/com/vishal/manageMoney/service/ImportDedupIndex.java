@@ -0,0 +1,62 @@
+package com.vishal.manageMoney.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.utils.Money;
+
+// Per-user multiset of 64-bit row hashes (kind, date, amount in paise, normalised description), built once per import.
+// Each existing row absorbs at most one imported row, so repeated identical transactions in a statement still import.
+final class ImportDedupIndex {
+
+    private final Map<Long, Integer> counts = new HashMap<>();
+    private final MessageDigest digest;
+
+    ImportDedupIndex() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    void add(RollupKind kind, LocalDate date, Money amount, String description) {
+        counts.merge(hash(kind, date, amount, description), 1, Integer::sum);
+    }
+
+    // True when the row matches an existing one that has not been matched yet
+    boolean consume(RollupKind kind, LocalDate date, Money amount, String description) {
+        long key = hash(kind, date, amount, description);
+        Integer remaining = counts.get(key);
+        if (remaining == null) {
+            return false;
+        }
+        if (remaining == 1) {
+            counts.remove(key);
+        } else {
+            counts.put(key, remaining - 1);
+        }
+        return true;
+    }
+
+    int size() {
+        return counts.size();
+    }
+
+    private long hash(RollupKind kind, LocalDate date, Money amount, String description) {
+        String normalised = description == null ? "" : description.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+
+        digest.reset();
+        digest.update(kind.name().getBytes(StandardCharsets.UTF_8));
+        digest.update(ByteBuffer.allocate(16).putLong(date.toEpochDay()).putLong(amount.getMinorUnits()).array());
+        digest.update(normalised.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+}
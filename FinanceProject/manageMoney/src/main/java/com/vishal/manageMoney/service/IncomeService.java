@@ -1,19 +1,26 @@
 package com.vishal.manageMoney.service;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
+import com.vishal.manageMoney.dto.CursorPage;
 import com.vishal.manageMoney.dto.IncomeRequestDTO;
 import com.vishal.manageMoney.dto.IncomeResponseDTO;
+import com.vishal.manageMoney.dto.PageResponseDTO;
+import com.vishal.manageMoney.dto.TransactionFilterDTO;
 import com.vishal.manageMoney.entity.Income;
-import com.vishal.manageMoney.entity.User;
+import com.vishal.manageMoney.entity.RollupKind;
 import com.vishal.manageMoney.repository.IncomeRepository;
 import com.vishal.manageMoney.repository.UserRepository;
-import com.vishal.manageMoney.utils.JwtUtils;
-import jakarta.servlet.http.HttpServletRequest;
+import com.vishal.manageMoney.repository.specification.TransactionSpecifications;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.utils.Money;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -28,11 +35,20 @@ public class IncomeService {
     private UserRepository userRepository;
 
     @Autowired
-    private JwtUtils jwtUtils;
+    private RollupService rollupService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private BatchValidator batchValidator;
 
 
-    // Converts an Income entity to an IncomeResponseDTO
-    private IncomeResponseDTO mapToResponseDTO(Income income) {
+    // Converts an Income entity to an IncomeResponseDTO; package-private for the mapping benchmark
+    IncomeResponseDTO mapToResponseDTO(Income income) {
         IncomeResponseDTO responseDTO = new IncomeResponseDTO();
 
         responseDTO.setId(income.getId());
@@ -47,47 +63,77 @@ public class IncomeService {
 
     // Adds a new income record to the database
     @Transactional
-    public IncomeResponseDTO addIncome(IncomeRequestDTO incomeRequestDTO) {
-        // Extract token from current request
-        HttpServletRequest httpRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String authHeader = httpRequest.getHeader("Authorization");
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new RuntimeException("Missing or invalid Authorization header");
-        }
+    public IncomeResponseDTO addIncome(Long userId, IncomeRequestDTO incomeRequestDTO) {
+        Income savedIncome = incomeRepository.save(mapToEntity(userId, incomeRequestDTO));
+        rollupService.add(userId, RollupKind.INCOME, savedIncome.getDate(), savedIncome.getSource(), savedIncome.getAmount());
+        searchIndexService.add(userId, RollupKind.INCOME, savedIncome.getId(), savedIncome.getDate(), savedIncome.getDescription());
+        collectionVersionService.bump(userId, RollupKind.INCOME);
+        return mapToResponseDTO(savedIncome);
+    }
 
-        String token = authHeader.substring(7); // Remove "Bearer " prefix
-        Long userId = jwtUtils.getUserIdFromJwtToken(token);
+    // Adds a batch of income records in one transaction, inserted in JDBC batches
+    @Transactional
+    public BulkCreateResponseDTO addIncomes(Long userId, List<IncomeRequestDTO> incomeRequestDTOs) {
+        batchValidator.validate(incomeRequestDTOs);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<Income> incomes = incomeRequestDTOs.stream()
+                .map(dto -> mapToEntity(userId, dto))
+                .collect(Collectors.toList());
+        List<Income> savedIncomes = incomeRepository.saveAll(incomes);
+        rollupService.addAll(userId, RollupKind.INCOME, savedIncomes,
+                Income::getDate, Income::getSource, Income::getAmount);
+        searchIndexService.addAll(userId, RollupKind.INCOME, savedIncomes,
+                Income::getId, Income::getDate, Income::getDescription);
+        collectionVersionService.bump(userId, RollupKind.INCOME);
+
+        List<Long> ids = savedIncomes.stream().map(Income::getId).collect(Collectors.toList());
+        return new BulkCreateResponseDTO(ids.size(), ids);
+    }
 
+    // Builds a new Income owned by the given user from a request DTO
+    private Income mapToEntity(Long userId, IncomeRequestDTO incomeRequestDTO) {
         Income income = new Income();
         income.setCategory(incomeRequestDTO.getCategory());
         income.setDescription(incomeRequestDTO.getDescription());
         income.setAmount(incomeRequestDTO.getAmount());
         income.setDate(incomeRequestDTO.getDate());
         income.setSource(incomeRequestDTO.getSource());
-        income.setUser(user);
+        income.setUser(userRepository.getReferenceById(userId));
+        return income;
+    }
 
 
-        Income savedIncome = incomeRepository.save(income);
-        return mapToResponseDTO(savedIncome);
+    // Retrieves one of a user's income records by its ID
+    @Transactional(readOnly = true)
+    public Optional<IncomeResponseDTO> getIncomeById(Long userId, Long id) {
+        return incomeRepository.findResponseByIdAndUserId(id, userId);
     }
 
 
-    // Retrieves a specific income record by its ID
+    // Retrieves all income records for a specific user by their ID, selected straight into DTOs
     @Transactional(readOnly = true)
-    public Optional<IncomeResponseDTO> getIncomeById(Long id) {
-        return incomeRepository.findById(id).map(this::mapToResponseDTO);
+    public List<IncomeResponseDTO> getAllIncomeByUserId(Long userId) {
+        return incomeRepository.findResponsesByUserId(userId);
     }
 
+    // Retrieves one keyset page of a user's income records
+    @Transactional(readOnly = true)
+    public CursorPage<IncomeResponseDTO> getIncomePage(Long userId, String cursor, Integer size, String sort) {
+        KeysetCursor keyset = KeysetCursor.of(cursor, sort);
+        Limit limit = KeysetCursor.limit(size);
+        List<IncomeResponseDTO> rows = keyset.isAscending()
+                ? incomeRepository.findResponsePageAsc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit))
+                : incomeRepository.findResponsePageDesc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit));
+        return keyset.toPage(rows, limit, IncomeResponseDTO::getDate, IncomeResponseDTO::getId);
+    }
 
-    // Retrieves all income records for a specific user by their ID
-    public List<IncomeResponseDTO> getAllIncomeByUserId(Long userId) {
-        return incomeRepository.findByUserId(userId).stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+    // Retrieves one page of a user's income records matching the filter, with the total number of matches
+    @Transactional(readOnly = true)
+    public PageResponseDTO<IncomeResponseDTO> filterIncome(Long userId, TransactionFilterDTO filter) {
+        Specification<Income> spec = TransactionSpecifications.matching(userId, filter);
+        Page<IncomeResponseDTO> page = incomeRepository.findResponsePage(spec, TransactionSpecifications.pageRequest(filter));
+        return new PageResponseDTO<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
     }
 
     // Updates an existing income record by its ID
@@ -96,6 +142,12 @@ public class IncomeService {
         Income income = incomeRepository.findById(id)
         .orElseThrow(() -> new RuntimeException("Income not found with id: " + id));
 
+       // Remember the current rollup bucket and indexed text before the fields change
+       LocalDate oldDate = income.getDate();
+       String oldSource = income.getSource();
+       Money oldAmount = income.getAmount();
+       String oldDescription = income.getDescription();
+
        if (incomeRequestDTO.getCategory() != null) income.setCategory(incomeRequestDTO.getCategory());
        if (incomeRequestDTO.getDescription() != null) income.setDescription(incomeRequestDTO.getDescription());
        if (incomeRequestDTO.getAmount() != null) income.setAmount(incomeRequestDTO.getAmount());
@@ -103,14 +155,26 @@ public class IncomeService {
        if (incomeRequestDTO.getSource() != null) income.setSource(incomeRequestDTO.getSource());
 
         Income updatedIncome = incomeRepository.save(income);
+        rollupService.move(updatedIncome.getUser().getId(), RollupKind.INCOME,
+                oldDate, oldSource, oldAmount,
+                updatedIncome.getDate(), updatedIncome.getSource(), updatedIncome.getAmount());
+        searchIndexService.update(updatedIncome.getUser().getId(), RollupKind.INCOME, updatedIncome.getId(),
+                oldDate, oldDescription, updatedIncome.getDate(), updatedIncome.getDescription());
+        collectionVersionService.bump(updatedIncome.getUser().getId(), RollupKind.INCOME);
         return mapToResponseDTO(updatedIncome);
     }
 
     // Deletes an income record by its ID
     @Transactional
     public boolean deleteIncome(Long id) {
-        if (incomeRepository.existsById(id)) {
-            incomeRepository.deleteById(id);
+        Optional<Income> income = incomeRepository.findById(id);
+        if (income.isPresent()) {
+            Income existing = income.get();
+            rollupService.remove(existing.getUser().getId(), RollupKind.INCOME,
+                    existing.getDate(), existing.getSource(), existing.getAmount());
+            searchIndexService.remove(existing.getUser().getId(), RollupKind.INCOME, existing.getId());
+            collectionVersionService.bump(existing.getUser().getId(), RollupKind.INCOME);
+            incomeRepository.delete(existing);
             return true;
         }
         return false;
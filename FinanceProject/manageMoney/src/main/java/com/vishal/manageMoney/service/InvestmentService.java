@@ -1,20 +1,24 @@
 package com.vishal.manageMoney.service;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
+import com.vishal.manageMoney.dto.CursorPage;
 import com.vishal.manageMoney.dto.InvestmentRequestDTO;
 import com.vishal.manageMoney.dto.InvestmentResponseDTO;
 import com.vishal.manageMoney.dto.InvestmentUpdateDTO;
 import com.vishal.manageMoney.entity.Investment;
-import com.vishal.manageMoney.entity.User;
+import com.vishal.manageMoney.entity.RollupKind;
 import com.vishal.manageMoney.repository.InvestmentRepository;
 import com.vishal.manageMoney.repository.UserRepository;
-import com.vishal.manageMoney.utils.JwtUtils;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.utils.Money;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,10 +31,19 @@ public class InvestmentService {
     private UserRepository userRepository;
 
     @Autowired
-    private JwtUtils jwtUtils;
+    private RollupService rollupService;
 
-    // Converts an Investment entity to an InvestmentResponseDTO
-    private InvestmentResponseDTO mapToResponseDTO(Investment investment) {
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private BatchValidator batchValidator;
+
+    // Converts an Investment entity to an InvestmentResponseDTO; package-private for the mapping benchmark
+    InvestmentResponseDTO mapToResponseDTO(Investment investment) {
         InvestmentResponseDTO responseDTO = new InvestmentResponseDTO();
         
         responseDTO.setId(investment.getId());
@@ -45,57 +58,87 @@ public class InvestmentService {
 
 
     // Adds a new investment record to the database
-    public InvestmentResponseDTO addInvestment(InvestmentRequestDTO investmentRequestDTO) {
-        HttpServletRequest httpRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String authHeader = httpRequest.getHeader("Authorization");
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new RuntimeException("Missing or invalid Authorization header");
-        }
+    @Transactional
+    public InvestmentResponseDTO addInvestment(Long userId, InvestmentRequestDTO investmentRequestDTO) {
+        Investment savedInvestment = investmentRepository.save(mapToEntity(userId, investmentRequestDTO));
+        rollupService.add(userId, RollupKind.INVESTMENT, savedInvestment.getDate(), savedInvestment.getType(), savedInvestment.getAmount());
+        searchIndexService.add(userId, RollupKind.INVESTMENT, savedInvestment.getId(), savedInvestment.getDate(), savedInvestment.getDescription());
+        collectionVersionService.bump(userId, RollupKind.INVESTMENT);
+        return mapToResponseDTO(savedInvestment);
+    }
 
-        String token = authHeader.substring(7);
-        Long userId = jwtUtils.getUserIdFromJwtToken(token);
+    // Adds a batch of investment records in one transaction, inserted in JDBC batches
+    @Transactional
+    public BulkCreateResponseDTO addInvestments(Long userId, List<InvestmentRequestDTO> investmentRequestDTOs) {
+        batchValidator.validate(investmentRequestDTOs);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<Investment> investments = investmentRequestDTOs.stream()
+                .map(dto -> mapToEntity(userId, dto))
+                .collect(Collectors.toList());
+        List<Investment> savedInvestments = investmentRepository.saveAll(investments);
+        rollupService.addAll(userId, RollupKind.INVESTMENT, savedInvestments,
+                Investment::getDate, Investment::getType, Investment::getAmount);
+        searchIndexService.addAll(userId, RollupKind.INVESTMENT, savedInvestments,
+                Investment::getId, Investment::getDate, Investment::getDescription);
+        collectionVersionService.bump(userId, RollupKind.INVESTMENT);
+
+        List<Long> ids = savedInvestments.stream().map(Investment::getId).collect(Collectors.toList());
+        return new BulkCreateResponseDTO(ids.size(), ids);
+    }
 
+    // Builds a new Investment owned by the given user from a request DTO
+    private Investment mapToEntity(Long userId, InvestmentRequestDTO investmentRequestDTO) {
         Investment investment = new Investment();
         investment.setType(investmentRequestDTO.getType());
         investment.setInstitution(investmentRequestDTO.getInstitution());
         investment.setDescription(investmentRequestDTO.getDescription());
         investment.setAmount(investmentRequestDTO.getAmount());
         investment.setDate(investmentRequestDTO.getDate());
-        investment.setUser(user);
-
-        Investment savedInvestment = investmentRepository.save(investment);
-        return mapToResponseDTO(savedInvestment);
+        investment.setUser(userRepository.getReferenceById(userId));
+        return investment;
     }
 
 
 
-    // Retrieves all investment records for the authenticated user
+    // Retrieves all investment records for the authenticated user, selected straight into DTOs
+    @Transactional(readOnly = true)
     public List<InvestmentResponseDTO> getAllInvestmentsByUserId(Long userId) {
-        return investmentRepository.findAllByUserId(userId).stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+        return investmentRepository.findResponsesByUserId(userId);
     }
 
 
 
-    // Retrieves a specific investment record by its ID
-    
-    public InvestmentResponseDTO getInvestmentById(Long id) {
-        Investment investment = investmentRepository.findById(id)
-        .orElseThrow(() -> new RuntimeException("Investment not found"));
+    // Retrieves one keyset page of investment records for a user
+    @Transactional(readOnly = true)
+    public CursorPage<InvestmentResponseDTO> getInvestmentsPage(Long userId, String cursor, Integer size, String sort) {
+        KeysetCursor keyset = KeysetCursor.of(cursor, sort);
+        Limit limit = KeysetCursor.limit(size);
+        List<InvestmentResponseDTO> rows = keyset.isAscending()
+                ? investmentRepository.findResponsePageAsc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit))
+                : investmentRepository.findResponsePageDesc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit));
+        return keyset.toPage(rows, limit, InvestmentResponseDTO::getDate, InvestmentResponseDTO::getId);
+    }
+
 
-        return mapToResponseDTO(investment);
+
+    // Retrieves one of a user's investment records by its ID
+    @Transactional(readOnly = true)
+    public Optional<InvestmentResponseDTO> getInvestmentById(Long userId, Long id) {
+        return investmentRepository.findResponseByIdAndUserId(id, userId);
     }
 
 
     // Updates an existing investment record by its ID
+    @Transactional
     public InvestmentResponseDTO updateInvestment(Long id, InvestmentUpdateDTO investmentUpdateDTO) {
        Investment investment = investmentRepository.findById(id).orElseThrow(() -> new RuntimeException("Could not fetch investment"));
 
+       // Remember the current rollup bucket and indexed text before the fields change
+       LocalDate oldDate = investment.getDate();
+       String oldType = investment.getType();
+       Money oldAmount = investment.getAmount();
+       String oldDescription = investment.getDescription();
+
        if (investmentUpdateDTO.getType() != null) {
            investment.setType(investmentUpdateDTO.getType());
        }
@@ -113,15 +156,27 @@ public class InvestmentService {
        }
 
        Investment updatedInvestment = investmentRepository.save(investment);
+       rollupService.move(updatedInvestment.getUser().getId(), RollupKind.INVESTMENT,
+               oldDate, oldType, oldAmount,
+               updatedInvestment.getDate(), updatedInvestment.getType(), updatedInvestment.getAmount());
+       searchIndexService.update(updatedInvestment.getUser().getId(), RollupKind.INVESTMENT, updatedInvestment.getId(),
+               oldDate, oldDescription, updatedInvestment.getDate(), updatedInvestment.getDescription());
+       collectionVersionService.bump(updatedInvestment.getUser().getId(), RollupKind.INVESTMENT);
        return mapToResponseDTO(updatedInvestment);
     }
 
     // Deletes an investment record by its ID
+    @Transactional
     public String deleteInvestment(Long id) {
-        if (investmentRepository.existsById(id)) {
-            investmentRepository.deleteById(id);
-            return "Investment deleted successfully";
-        }
-        return "Investment not found";
+        return investmentRepository.findById(id)
+                .map(investment -> {
+                    rollupService.remove(investment.getUser().getId(), RollupKind.INVESTMENT,
+                            investment.getDate(), investment.getType(), investment.getAmount());
+                    searchIndexService.remove(investment.getUser().getId(), RollupKind.INVESTMENT, investment.getId());
+                    collectionVersionService.bump(investment.getUser().getId(), RollupKind.INVESTMENT);
+                    investmentRepository.delete(investment);
+                    return "Investment deleted successfully";
+                })
+                .orElse("Investment not found");
     }
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.vishal.manageMoney.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.vishal.manageMoney.entity.RollupKind;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Already-encoded JSON bodies of the per-user list endpoints, bounded by their total size in bytes and evicted
+// least-recently-used first. Each body is stored with the collection version it was built from and only served
+// while that version is current, so a hit can never be stale even before a write's eviction has run.
+// A budget of 0 disables it.
+//
+// Users are spread over independently locked segments, each with an equal share of the budget and its own LRU
+// order, so requests from different users rarely wait on one another. Eviction is therefore LRU per segment,
+// which approximates a global LRU. Statistics are kept outside the locks, so scraping them never blocks a request.
+@Component
+public class JsonResponseCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong entryCount = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JsonResponseCache(MeterRegistry meterRegistry,
+                             @Value("${app.responseCache.maxBytes:67108864}") long maxBytes,
+                             @Value("${app.responseCache.maxEntryBytes:4194304}") long maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        long segmentBytes = maxBytes / SEGMENTS;
+        this.maxEntryBytes = Math.min(maxEntryBytes, segmentBytes);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentBytes);
+        }
+
+        FunctionCounter.builder("response.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("List responses served from cached JSON")
+                .register(meterRegistry);
+        FunctionCounter.builder("response.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("List responses that had to be queried and serialized")
+                .register(meterRegistry);
+        FunctionCounter.builder("response.cache.evictions", evictions, LongAdder::sum)
+                .description("Cached bodies dropped to stay within the byte budget")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.size", totalBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("Bytes of JSON currently cached")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.entries", entryCount, AtomicLong::get)
+                .description("JSON bodies currently cached")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.hit.ratio", this, JsonResponseCache::hitRatio)
+                .description("Share of list responses served from cached JSON since startup")
+                .register(meterRegistry);
+    }
+
+    // The cached body of one view of a user's collection, or null when absent or built from another version
+    public byte[] get(Long userId, RollupKind kind, String view, long version) {
+        if (maxBytes <= 0) {
+            return null;
+        }
+        Key key = new Key(userId, kind, view);
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(key);
+            if (entry != null && entry.version == version) {
+                hits.increment();
+                return entry.body;
+            }
+            if (entry != null) {
+                segment.remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    // Bodies over the per-entry limit are not cached, so one huge list cannot flush everyone else's
+    public void put(Long userId, RollupKind kind, String view, long version, byte[] body) {
+        if (maxBytes <= 0 || body.length > maxEntryBytes) {
+            return;
+        }
+        Key key = new Key(userId, kind, view);
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            Entry previous = segment.entries.get(key);
+            // A slower reader may finish after a newer version was cached
+            if (previous != null && previous.version > version) {
+                return;
+            }
+            if (previous != null) {
+                segment.remove(key);
+            }
+            segment.add(key, new Entry(version, body));
+            segment.evictOverBudget();
+        }
+    }
+
+    // Called after a write to the user's collection of this kind has committed
+    public void invalidate(Long userId, RollupKind kind) {
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            Set<Key> keys = segment.keysByCollection.remove(new UserCollection(userId, kind));
+            if (keys == null) {
+                return;
+            }
+            for (Key key : keys) {
+                Entry entry = segment.entries.remove(key);
+                if (entry != null) {
+                    segment.released(entry);
+                }
+            }
+        }
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    private Segment segmentFor(Long userId) {
+        int hash = Long.hashCode(userId);
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    // One lock's worth of the cache; every field is guarded by the segment's own monitor
+    private final class Segment {
+
+        private final long maxBytes;
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        // Keys held per user and kind, so a write evicts exactly that collection's bodies
+        private final Map<UserCollection, Set<Key>> keysByCollection = new HashMap<>();
+        private long bytes;
+
+        private Segment(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private void add(Key key, Entry entry) {
+            entries.put(key, entry);
+            keysByCollection.computeIfAbsent(new UserCollection(key.userId(), key.kind()), c -> new HashSet<>()).add(key);
+            bytes += entry.body.length;
+            totalBytes.addAndGet(entry.body.length);
+            entryCount.incrementAndGet();
+        }
+
+        private void evictOverBudget() {
+            Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<Key, Entry> victim = eldest.next();
+                eldest.remove();
+                forget(victim.getKey(), victim.getValue());
+                evictions.increment();
+            }
+        }
+
+        private void remove(Key key) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                forget(key, entry);
+            }
+        }
+
+        private void forget(Key key, Entry entry) {
+            released(entry);
+            UserCollection collection = new UserCollection(key.userId(), key.kind());
+            Set<Key> keys = keysByCollection.get(collection);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByCollection.remove(collection);
+                }
+            }
+        }
+
+        private void released(Entry entry) {
+            bytes -= entry.body.length;
+            totalBytes.addAndGet(-entry.body.length);
+            entryCount.decrementAndGet();
+        }
+    }
+
+    // view distinguishes the endpoint and its parameters, e.g. "all" or "page?after=2024-05-01|123&size=50&sort=desc"
+    private record Key(Long userId, RollupKind kind, String view) {
+    }
+
+    private record UserCollection(Long userId, RollupKind kind) {
+    }
+
+    private record Entry(long version, byte[] body) {
+    }
+}
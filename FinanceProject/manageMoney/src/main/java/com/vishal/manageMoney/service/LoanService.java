@@ -1,37 +1,47 @@
 package com.vishal.manageMoney.service;
 
+import com.vishal.manageMoney.dto.BulkCreateResponseDTO;
+import com.vishal.manageMoney.dto.CursorPage;
 import com.vishal.manageMoney.dto.LoanRequestDTO;
 import com.vishal.manageMoney.dto.LoanResponseDTO;
 import com.vishal.manageMoney.dto.LoanUpdateDTO;
 import com.vishal.manageMoney.entity.Loan;
-import com.vishal.manageMoney.entity.User;
+import com.vishal.manageMoney.entity.RollupKind;
 import com.vishal.manageMoney.repository.LoanRepository;
 import com.vishal.manageMoney.repository.UserRepository;
-import com.vishal.manageMoney.utils.JwtUtils;
+import com.vishal.manageMoney.utils.KeysetCursor;
+import com.vishal.manageMoney.utils.Money;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class LoanService {
 
     private final LoanRepository loanRepository;
     private final UserRepository userRepository;
-    private final JwtUtils jwtUtils;
+    private final SearchIndexService searchIndexService;
+    private final CollectionVersionService collectionVersionService;
+    private final BatchValidator batchValidator;
 
     // Constructor injection
-    public LoanService(LoanRepository loanRepository, UserRepository userRepository, JwtUtils jwtUtils) {
+    public LoanService(LoanRepository loanRepository, UserRepository userRepository,
+                       SearchIndexService searchIndexService, CollectionVersionService collectionVersionService,
+                       BatchValidator batchValidator) {
         this.loanRepository = loanRepository;
         this.userRepository = userRepository;
-        this.jwtUtils = jwtUtils;
+        this.searchIndexService = searchIndexService;
+        this.collectionVersionService = collectionVersionService;
+        this.batchValidator = batchValidator;
     }
 
-    // Converts a Loan entity to a LoanResponseDTO
-    private LoanResponseDTO mapToResponseDTO(Loan loan) {
+    // Converts a Loan entity to a LoanResponseDTO; package-private for the mapping benchmark
+    LoanResponseDTO mapToResponseDTO(Loan loan) {
         LoanResponseDTO responseDTO = new LoanResponseDTO();
 
         responseDTO.setId(loan.getId());
@@ -50,20 +60,32 @@ public class LoanService {
 
     // Adds a new loan record to the database
     @Transactional
-    public LoanResponseDTO addLoan(LoanRequestDTO loanRequestDTO) {
-        HttpServletRequest httpRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String authHeader = httpRequest.getHeader("Authorization");
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new RuntimeException("Missing or invalid Authorization header");
-        }
-
-        String token = authHeader.substring(7);
-        Long userId = jwtUtils.getUserIdFromJwtToken(token);
+    public LoanResponseDTO addLoan(Long userId, LoanRequestDTO loanRequestDTO) {
+        Loan savedLoan = loanRepository.save(mapToEntity(userId, loanRequestDTO));
+        searchIndexService.add(userId, RollupKind.LOAN, savedLoan.getId(), savedLoan.getStartDate(), savedLoan.getDescription());
+        collectionVersionService.bump(userId, RollupKind.LOAN);
+        return mapToResponseDTO(savedLoan);
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    // Adds a batch of loan records in one transaction, inserted in JDBC batches
+    @Transactional
+    public BulkCreateResponseDTO addLoans(Long userId, List<LoanRequestDTO> loanRequestDTOs) {
+        batchValidator.validate(loanRequestDTOs);
+
+        List<Loan> loans = loanRequestDTOs.stream()
+                .map(dto -> mapToEntity(userId, dto))
+                .collect(Collectors.toList());
+        List<Loan> savedLoans = loanRepository.saveAll(loans);
+        searchIndexService.addAll(userId, RollupKind.LOAN, savedLoans,
+                Loan::getId, Loan::getStartDate, Loan::getDescription);
+        collectionVersionService.bump(userId, RollupKind.LOAN);
+
+        List<Long> ids = savedLoans.stream().map(Loan::getId).collect(Collectors.toList());
+        return new BulkCreateResponseDTO(ids.size(), ids);
+    }
 
+    // Builds a new Loan owned by the given user from a request DTO
+    private Loan mapToEntity(Long userId, LoanRequestDTO loanRequestDTO) {
         Loan loan = new Loan();
         loan.setType(loanRequestDTO.getType());
         loan.setLender(loanRequestDTO.getLender());
@@ -73,25 +95,34 @@ public class LoanService {
         loan.setEmi(loanRequestDTO.getEmi());
         loan.setStartDate(loanRequestDTO.getStartDate());
         loan.setEndDate(loanRequestDTO.getEndDate());
-        loan.setUser(user);
-
-        Loan savedLoan = loanRepository.save(loan);
-        return mapToResponseDTO(savedLoan);
+        loan.setUser(userRepository.getReferenceById(userId));
+        return loan;
     }
 
 
     // Retrieves all loan records for the authenticated user
     @Transactional(readOnly = true)
     public List<LoanResponseDTO> getAllLoans(Long userId) {
-        List<Loan> loans = loanRepository.findLoanByUserId(userId);
-        return loans.stream().map(this::mapToResponseDTO).toList();
+        return loanRepository.findResponsesByUserId(userId);
+    }
+
+
+    // Retrieves one keyset page of loan records, ordered by start date
+    @Transactional(readOnly = true)
+    public CursorPage<LoanResponseDTO> getLoansPage(Long userId, String cursor, Integer size, String sort) {
+        KeysetCursor keyset = KeysetCursor.of(cursor, sort);
+        Limit limit = KeysetCursor.limit(size);
+        List<LoanResponseDTO> rows = keyset.isAscending()
+                ? loanRepository.findResponsePageAsc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit))
+                : loanRepository.findResponsePageDesc(userId, keyset.afterDate(), keyset.afterId(), KeysetCursor.lookahead(limit));
+        return keyset.toPage(rows, limit, LoanResponseDTO::getStartDate, LoanResponseDTO::getId);
     }
 
 
-    // Retrieves a specific loan record by its ID
+    // Retrieves one of a user's loan records by its ID
     @Transactional(readOnly = true)
-    public LoanResponseDTO getLoanById(Long id) {
-        return loanRepository.findById(id).map(this::mapToResponseDTO).orElseThrow(() -> new RuntimeException("Could not find loan with this id"));
+    public Optional<LoanResponseDTO> getLoanById(Long userId, Long id) {
+        return loanRepository.findResponseByIdAndUserId(id, userId);
     }
 
     // Updates an existing loan record by its ID
@@ -99,6 +130,9 @@ public class LoanService {
     public LoanResponseDTO updateLoan(Long id, LoanUpdateDTO loanUpdateDTO) {
        Loan loan = loanRepository.findById(id).orElseThrow(() -> new RuntimeException("Could not retrieve loan with this id"));
 
+       // Remember the indexed date and text before the fields change
+       LocalDate oldStartDate = loan.getStartDate();
+       String oldDescription = loan.getDescription();
 
        if(loanUpdateDTO.getDescription() != null)  {
              loan.setDescription(loanUpdateDTO.getDescription());
@@ -123,16 +157,22 @@ public class LoanService {
        }
 
        Loan updatedLoan = loanRepository.save(loan);
+       searchIndexService.update(updatedLoan.getUser().getId(), RollupKind.LOAN, updatedLoan.getId(),
+               oldStartDate, oldDescription, updatedLoan.getStartDate(), updatedLoan.getDescription());
+       collectionVersionService.bump(updatedLoan.getUser().getId(), RollupKind.LOAN);
        return mapToResponseDTO(updatedLoan);
     }
 
     // Deletes a loan record by its ID
     @Transactional
     public String deleteLoan(Long id) {
-        if (loanRepository.existsById(id)) {
-            loanRepository.deleteById(id);
-            return "Loan deleted successfully";
-        }
-        return "Loan not found";
+        return loanRepository.findById(id)
+                .map(loan -> {
+                    searchIndexService.remove(loan.getUser().getId(), RollupKind.LOAN, loan.getId());
+                    collectionVersionService.bump(loan.getUser().getId(), RollupKind.LOAN);
+                    loanRepository.delete(loan);
+                    return "Loan deleted successfully";
+                })
+                .orElse("Loan not found");
     }
 }
\ No newline at end of file
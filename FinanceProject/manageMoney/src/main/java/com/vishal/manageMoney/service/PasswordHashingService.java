@@ -0,0 +1,151 @@
+package com.vishal.manageMoney.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.vishal.manageMoney.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+// Runs BCrypt on a small dedicated pool so login spikes cannot starve the request threads.
+//
+// A caller that times out gets a 503, but only a hash still waiting in the queue is withdrawn. BCrypt does not
+// respond to interruption, so a hash already running keeps its thread until it finishes. Those are counted as
+// auth.hash.abandoned; under sustained overload they show the pool busy with work nobody is waiting for.
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final String dummyHash;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.hashing.threads:0}") int threads,
+                                  @Value("${app.hashing.queueCapacity:64}") int queueCapacity,
+                                  @Value("${app.hashing.timeoutMs:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+
+        // Default to half the cores so hashing never takes every CPU away from the CRUD endpoints
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+
+        // Compared against when the email is unknown, so both paths take the same time
+        this.dummyHash = passwordEncoder.encode("manageMoney-dummy-password");
+    }
+
+    // Hash a raw password for storage
+    public String encode(String rawPassword) {
+        return run("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // Check a raw password against a stored hash; a null hash always fails after a dummy check
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            run("matches", () -> passwordEncoder.matches(rawPassword, dummyHash));
+            return false;
+        }
+        return run("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T run(String operation, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        // Set by whichever comes first: the worker starting the hash, or the caller giving up on it
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                long startedAt = System.nanoTime();
+                timer("auth.hash.queue.wait", operation).record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    timer("auth.hash.latency", operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("auth.hash.rejected", "operation", operation).increment();
+            logger.warn("Password hashing queue is full, rejecting {}", operation);
+            throw new ServiceBusyException("Too many authentication requests, please retry shortly", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (claimed.compareAndSet(false, true)) {
+                // Still queued: free its slot, the worker would skip it anyway
+                future.cancel(false);
+                executor.remove((Runnable) future);
+                logger.warn("Password hashing {} timed out after {} ms in the queue", operation, timeoutMs);
+            } else {
+                meterRegistry.counter("auth.hash.abandoned", "operation", operation).increment();
+                logger.warn("Password hashing {} timed out after {} ms; the running hash keeps its thread until done",
+                        operation, timeoutMs);
+            }
+            meterRegistry.counter("auth.hash.rejected", "operation", operation).increment();
+            throw new ServiceBusyException("Authentication is taking too long, please retry shortly", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package com.vishal.manageMoney.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Rebuilds every user's monthly rollups at startup when run with --rebuild-rollups or app.rollup.rebuildOnStartup=true
+@Component
+public class RollupRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupRebuildRunner.class);
+
+    private final RollupService rollupService;
+    private final boolean rebuildOnStartup;
+
+    public RollupRebuildRunner(RollupService rollupService,
+                               @Value("${app.rollup.rebuildOnStartup:false}") boolean rebuildOnStartup) {
+        this.rollupService = rollupService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup || args.containsOption("rebuild-rollups")) {
+            logger.info("Rebuilding monthly rollups for all users");
+            rollupService.rebuildAll();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.vishal.manageMoney.service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.MonthlyRollupRepository;
+import com.vishal.manageMoney.repository.UserRepository;
+import com.vishal.manageMoney.utils.Money;
+
+// Keeps monthly_rollups in step with the transaction tables; callers invoke it inside their own write transaction
+@Service
+public class RollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupService.class);
+
+    private final MonthlyRollupRepository rollupRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RollupService(MonthlyRollupRepository rollupRepository, UserRepository userRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Adds a newly created entry to its bucket
+    @Transactional
+    public void add(Long userId, RollupKind kind, LocalDate date, String category, Money amount) {
+        rollupRepository.addToBucket(userId, monthStart(date), kind.name(), category, toMinor(amount), 1);
+    }
+
+    // Adds a batch of new entries, issuing one upsert per touched bucket rather than per entry
+    @Transactional
+    public <T> void addAll(Long userId, RollupKind kind, List<T> entries,
+                           Function<T, LocalDate> date, Function<T, String> category, Function<T, Money> amount) {
+        Map<Bucket, BucketDelta> deltas = new LinkedHashMap<>();
+        for (T entry : entries) {
+            Bucket bucket = new Bucket(monthStart(date.apply(entry)), category.apply(entry));
+            BucketDelta delta = deltas.computeIfAbsent(bucket, b -> new BucketDelta());
+            delta.total = Math.addExact(delta.total, toMinor(amount.apply(entry)));
+            delta.count++;
+        }
+        deltas.forEach((bucket, delta) -> rollupRepository.addToBucket(
+                userId, bucket.monthStart(), kind.name(), bucket.category(), delta.total, delta.count));
+    }
+
+    // Takes a deleted entry out of its bucket
+    @Transactional
+    public void remove(Long userId, RollupKind kind, LocalDate date, String category, Money amount) {
+        rollupRepository.addToBucket(userId, monthStart(date), kind.name(), category, -toMinor(amount), -1);
+    }
+
+    // Applies an update, moving the amount between buckets when the month or category changed
+    @Transactional
+    public void move(Long userId, RollupKind kind,
+                     LocalDate oldDate, String oldCategory, Money oldAmount,
+                     LocalDate newDate, String newCategory, Money newAmount) {
+        long before = toMinor(oldAmount);
+        long after = toMinor(newAmount);
+        boolean sameBucket = monthStart(oldDate).equals(monthStart(newDate)) && Objects.equals(oldCategory, newCategory);
+        if (sameBucket) {
+            if (before != after) {
+                rollupRepository.addToBucket(userId, monthStart(newDate), kind.name(), newCategory, after - before, 0);
+            }
+            return;
+        }
+        rollupRepository.addToBucket(userId, monthStart(oldDate), kind.name(), oldCategory, -before, -1);
+        rollupRepository.addToBucket(userId, monthStart(newDate), kind.name(), newCategory, after, 1);
+    }
+
+    // Recomputes one user's buckets from the source tables
+    @Transactional
+    public void rebuild(Long userId) {
+        rollupRepository.deleteByUserId(userId);
+        int buckets = rollupRepository.rebuildExpenses(userId)
+                + rollupRepository.rebuildIncomes(userId)
+                + rollupRepository.rebuildInvestments(userId);
+        logger.info("Rebuilt {} rollup buckets for userId: {}", buckets, userId);
+    }
+
+    // Backfill and drift repair for every user, one transaction per user
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        }
+        logger.info("Rebuilt monthly rollups for {} users", userIds.size());
+        return userIds.size();
+    }
+
+    private record Bucket(LocalDate monthStart, String category) {
+    }
+
+    private static final class BucketDelta {
+        private long total;
+        private long count;
+    }
+
+    public static LocalDate monthStart(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    private static long toMinor(Money amount) {
+        return amount == null ? 0 : amount.getMinorUnits();
+    }
+}
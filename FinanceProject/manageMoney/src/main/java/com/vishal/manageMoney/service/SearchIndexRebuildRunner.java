@@ -0,0 +1,33 @@
+package com.vishal.manageMoney.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Re-indexes every user's transaction descriptions at startup when run with --rebuild-search-index
+// or app.search.rebuildOnStartup=true
+@Component
+public class SearchIndexRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexRebuildRunner.class);
+
+    private final SearchIndexService searchIndexService;
+    private final boolean rebuildOnStartup;
+
+    public SearchIndexRebuildRunner(SearchIndexService searchIndexService,
+                                    @Value("${app.search.rebuildOnStartup:false}") boolean rebuildOnStartup) {
+        this.searchIndexService = searchIndexService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup || args.containsOption("rebuild-search-index")) {
+            logger.info("Rebuilding the search index for all users");
+            searchIndexService.rebuildAll();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.vishal.manageMoney.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.SearchIndexRepository;
+import com.vishal.manageMoney.repository.SearchIndexRepository.Posting;
+import com.vishal.manageMoney.repository.UserRepository;
+import com.vishal.manageMoney.utils.SearchTokenizer;
+
+// Keeps the description search index in step with the transaction tables; callers invoke it inside their own
+// write transaction, the same way as RollupService
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    // Postings written per JDBC batch during a rebuild
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SearchIndexService(SearchIndexRepository searchIndexRepository, UserRepository userRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.searchIndexRepository = searchIndexRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Indexes a newly created transaction
+    @Transactional
+    public void add(Long userId, RollupKind kind, Long id, LocalDate date, String description) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        List<Posting> postings = new ArrayList<>();
+        collect(kind, id, date, description, postings, deltas);
+        searchIndexRepository.addPostings(userId, postings);
+        searchIndexRepository.adjustDocCounts(userId, deltas);
+    }
+
+    // Indexes a batch of new transactions with one postings batch and one vocabulary batch
+    @Transactional
+    public <T> void addAll(Long userId, RollupKind kind, List<T> entries,
+                           Function<T, Long> id, Function<T, LocalDate> date, Function<T, String> description) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        List<Posting> postings = new ArrayList<>();
+        for (T entry : entries) {
+            collect(kind, id.apply(entry), date.apply(entry), description.apply(entry), postings, deltas);
+        }
+        searchIndexRepository.addPostings(userId, postings);
+        searchIndexRepository.adjustDocCounts(userId, deltas);
+    }
+
+    // Applies an update: re-dates the postings when only the date changed, re-indexes when the text changed
+    @Transactional
+    public void update(Long userId, RollupKind kind, Long id,
+                       LocalDate oldDate, String oldDescription, LocalDate newDate, String newDescription) {
+        if (Objects.equals(oldDescription, newDescription)) {
+            if (!Objects.equals(oldDate, newDate)) {
+                searchIndexRepository.redatePostings(userId, kind, id, newDate);
+            }
+            return;
+        }
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        for (String term : searchIndexRepository.deletePostings(userId, kind, id)) {
+            deltas.merge(term, -1L, Long::sum);
+        }
+        List<Posting> postings = new ArrayList<>();
+        collect(kind, id, newDate, newDescription, postings, deltas);
+        searchIndexRepository.addPostings(userId, postings);
+        searchIndexRepository.adjustDocCounts(userId, deltas);
+    }
+
+    // Takes a deleted transaction out of the index
+    @Transactional
+    public void remove(Long userId, RollupKind kind, Long id) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        for (String term : searchIndexRepository.deletePostings(userId, kind, id)) {
+            deltas.merge(term, -1L, Long::sum);
+        }
+        searchIndexRepository.adjustDocCounts(userId, deltas);
+    }
+
+    // Re-indexes one user's transactions from the source tables
+    @Transactional
+    public void rebuild(Long userId) {
+        searchIndexRepository.deleteByUserId(userId);
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        List<Posting> postings = new ArrayList<>();
+        long[] indexed = { 0 };
+        for (RollupKind kind : RollupKind.values()) {
+            searchIndexRepository.forEachSource(userId, kind, source -> {
+                collect(kind, source.id(), source.date(), source.description(), postings, deltas);
+                indexed[0]++;
+                if (postings.size() >= REBUILD_BATCH_SIZE) {
+                    searchIndexRepository.addPostings(userId, postings);
+                    postings.clear();
+                }
+            });
+        }
+        searchIndexRepository.addPostings(userId, postings);
+        searchIndexRepository.adjustDocCounts(userId, deltas);
+        logger.info("Rebuilt search index of {} transactions ({} terms) for userId: {}", indexed[0], deltas.size(), userId);
+    }
+
+    // Backfill and drift repair for every user, one transaction per user
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        }
+        logger.info("Rebuilt search index for {} users", userIds.size());
+        return userIds.size();
+    }
+
+    private static void collect(RollupKind kind, Long id, LocalDate date, String description,
+                                List<Posting> postings, SortedMap<String, Long> deltas) {
+        Set<String> terms = SearchTokenizer.terms(description);
+        for (String term : terms) {
+            postings.add(new Posting(term, kind, id, date));
+            deltas.merge(term, 1L, Long::sum);
+        }
+    }
+}
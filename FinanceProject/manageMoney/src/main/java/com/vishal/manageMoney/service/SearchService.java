@@ -0,0 +1,210 @@
+package com.vishal.manageMoney.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vishal.manageMoney.dto.HighlightDTO;
+import com.vishal.manageMoney.dto.SearchResponseDTO;
+import com.vishal.manageMoney.dto.SearchResultDTO;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.ExpenseRepository;
+import com.vishal.manageMoney.repository.IncomeRepository;
+import com.vishal.manageMoney.repository.InvestmentRepository;
+import com.vishal.manageMoney.repository.LoanRepository;
+import com.vishal.manageMoney.repository.SearchIndexRepository;
+import com.vishal.manageMoney.repository.SearchIndexRepository.Match;
+import com.vishal.manageMoney.repository.SearchIndexRepository.MatchPage;
+import com.vishal.manageMoney.repository.SearchIndexRepository.TermWeight;
+import com.vishal.manageMoney.repository.SearchIndexRepository.VocabularyTerm;
+import com.vishal.manageMoney.utils.EditDistance;
+import com.vishal.manageMoney.utils.SearchTokenizer;
+
+// Ranked search over transaction descriptions, answered from the per-user inverted index.
+// Each query word is expanded against the user's vocabulary (exact, prefix, then one or two typos for longer
+// words, keeping the first letter fixed), and one index query scores transactions by how many query words
+// they match and how well, returning only the top hits, which are then loaded.
+@Service
+public class SearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    // Query words beyond this are ignored
+    private static final int MAX_QUERY_TERMS = 8;
+    // Vocabulary terms one query word may expand to
+    private static final int MAX_EXPANSIONS = 50;
+
+    private static final double EXACT_WEIGHT = 1.0;
+    private static final double PREFIX_WEIGHT = 0.7;
+    private static final double ONE_EDIT_WEIGHT = 0.45;
+    private static final double TWO_EDITS_WEIGHT = 0.3;
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final InvestmentRepository investmentRepository;
+    private final LoanRepository loanRepository;
+
+    public SearchService(SearchIndexRepository searchIndexRepository, ExpenseRepository expenseRepository,
+                         IncomeRepository incomeRepository, InvestmentRepository investmentRepository,
+                         LoanRepository loanRepository) {
+        this.searchIndexRepository = searchIndexRepository;
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.investmentRepository = investmentRepository;
+        this.loanRepository = loanRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public SearchResponseDTO search(Long userId, String query, String kinds, LocalDate from, LocalDate to, Integer limit) {
+        List<String> queryTerms = new ArrayList<>(SearchTokenizer.terms(query));
+        if (queryTerms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain a word of at least "
+                    + SearchTokenizer.MIN_TERM_LENGTH + " letters or digits");
+        }
+        if (queryTerms.size() > MAX_QUERY_TERMS) {
+            queryTerms = queryTerms.subList(0, MAX_QUERY_TERMS);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        int max = limit(limit);
+        Set<RollupKind> kindSet = TransactionFeedService.parseKinds(kinds);
+
+        // Expand every query word against the vocabulary, read once per distinct first letter
+        Map<String, List<VocabularyTerm>> vocabularyByInitial = new HashMap<>();
+        List<Map<String, Double>> expansions = new ArrayList<>(queryTerms.size());
+        Set<String> allTerms = new HashSet<>();
+        for (String queryTerm : queryTerms) {
+            String initial = queryTerm.substring(0, Character.charCount(queryTerm.codePointAt(0)));
+            List<VocabularyTerm> vocabulary = vocabularyByInitial.computeIfAbsent(initial,
+                    i -> searchIndexRepository.findVocabulary(userId, i, nextInitial(i)));
+            Map<String, Double> expansion = expand(queryTerm, vocabulary);
+            expansions.add(expansion);
+            allTerms.addAll(expansion.keySet());
+        }
+
+        List<TermWeight> weights = new ArrayList<>();
+        for (int i = 0; i < expansions.size(); i++) {
+            for (Map.Entry<String, Double> term : expansions.get(i).entrySet()) {
+                weights.add(new TermWeight(term.getKey(), i, term.getValue()));
+            }
+        }
+        MatchPage page = searchIndexRepository.findTopMatches(userId, weights, kindSet, from, to, max);
+        return new SearchResponseDTO(queryTerms, page.total(), load(page.matches(), allTerms));
+    }
+
+    // Vocabulary terms a query word matches, with their weights; rarer terms weigh more.
+    // Package-private for SearchServiceTest
+    static Map<String, Double> expand(String queryTerm, List<VocabularyTerm> vocabulary) {
+        int length = queryTerm.length();
+        int maxEdits = length >= 8 ? 2 : length >= 4 ? 1 : 0;
+        List<Map.Entry<String, Double>> matches = new ArrayList<>();
+        for (VocabularyTerm candidate : vocabulary) {
+            String term = candidate.term();
+            double weight;
+            if (term.equals(queryTerm)) {
+                weight = EXACT_WEIGHT;
+            } else if (term.startsWith(queryTerm)) {
+                weight = PREFIX_WEIGHT;
+            } else if (maxEdits > 0) {
+                int edits = EditDistance.within(queryTerm, term, maxEdits);
+                if (edits > maxEdits) {
+                    continue;
+                }
+                weight = edits == 1 ? ONE_EDIT_WEIGHT : TWO_EDITS_WEIGHT;
+            } else {
+                continue;
+            }
+            matches.add(Map.entry(term, weight * rarity(candidate.docCount())));
+        }
+        matches.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+        Map<String, Double> expansion = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> match : matches.subList(0, Math.min(matches.size(), MAX_EXPANSIONS))) {
+            expansion.put(match.getKey(), match.getValue());
+        }
+        return expansion;
+    }
+
+    // 1.0 for a term in a single transaction, falling towards 0.6 for very common terms, so an exact match on a
+    // common word still outranks a typo match on a rare one
+    private static double rarity(long docCount) {
+        return 0.6 + 0.4 / (1 + Math.log(Math.max(docCount, 1)));
+    }
+
+    // Loads the ranked hits, one query per kind, and highlights the words that matched any expanded term
+    private List<SearchResultDTO> load(List<Match> ranked, Set<String> matchedTerms) {
+        Map<RollupKind, List<Long>> idsByKind = new EnumMap<>(RollupKind.class);
+        for (Match match : ranked) {
+            idsByKind.computeIfAbsent(match.kind(), k -> new ArrayList<>()).add(match.txnId());
+        }
+        Map<Hit, SearchResultDTO> loaded = new HashMap<>();
+        idsByKind.forEach((kind, ids) -> {
+            switch (kind) {
+                case EXPENSE -> expenseRepository.findAllById(ids).forEach(e -> loaded.put(new Hit(kind, e.getId()),
+                        new SearchResultDTO(kind, e.getId(), e.getDate(), e.getCategory(), e.getDescription(),
+                                null, e.getAmount(), 0, null)));
+                case INCOME -> incomeRepository.findAllById(ids).forEach(i -> loaded.put(new Hit(kind, i.getId()),
+                        new SearchResultDTO(kind, i.getId(), i.getDate(), i.getCategory(), i.getDescription(),
+                                i.getSource(), i.getAmount(), 0, null)));
+                case INVESTMENT -> investmentRepository.findAllById(ids).forEach(v -> loaded.put(new Hit(kind, v.getId()),
+                        new SearchResultDTO(kind, v.getId(), v.getDate(), v.getType(), v.getDescription(),
+                                v.getInstitution(), v.getAmount(), 0, null)));
+                case LOAN -> loanRepository.findAllById(ids).forEach(l -> loaded.put(new Hit(kind, l.getId()),
+                        new SearchResultDTO(kind, l.getId(), l.getStartDate(), l.getType(), l.getDescription(),
+                                l.getLender(), l.getPrincipal(), 0, null)));
+            }
+        });
+
+        List<SearchResultDTO> results = new ArrayList<>(ranked.size());
+        for (Match match : ranked) {
+            SearchResultDTO result = loaded.get(new Hit(match.kind(), match.txnId()));
+            // A transaction deleted since its postings were read
+            if (result == null) {
+                continue;
+            }
+            result.setScore(Math.round(match.score() * 1000) / 1000.0);
+            result.setHighlights(highlights(result.getDescription(), matchedTerms));
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static List<HighlightDTO> highlights(String description, Set<String> matchedTerms) {
+        List<HighlightDTO> highlights = new ArrayList<>();
+        for (SearchTokenizer.Token token : SearchTokenizer.tokenize(description)) {
+            if (matchedTerms.contains(token.term())) {
+                highlights.add(new HighlightDTO(token.start(), token.end()));
+            }
+        }
+        return highlights;
+    }
+
+    // Exclusive upper bound of the terms starting with the given code point, in "C" collation order
+    private static String nextInitial(String initial) {
+        return new String(Character.toChars(initial.codePointAt(0) + 1));
+    }
+
+    private static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private record Hit(RollupKind kind, long id) {
+    }
+}
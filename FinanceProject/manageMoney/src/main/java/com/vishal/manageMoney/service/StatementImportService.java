@@ -0,0 +1,362 @@
+package com.vishal.manageMoney.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vishal.manageMoney.dto.CsvColumnMapping;
+import com.vishal.manageMoney.dto.ImportResultDTO;
+import com.vishal.manageMoney.dto.ImportRowErrorDTO;
+import com.vishal.manageMoney.entity.Expense;
+import com.vishal.manageMoney.entity.Income;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.entity.User;
+import com.vishal.manageMoney.repository.ExpenseRepository;
+import com.vishal.manageMoney.repository.IncomeRepository;
+import com.vishal.manageMoney.repository.UserRepository;
+import com.vishal.manageMoney.repository.projection.DedupSource;
+import com.vishal.manageMoney.utils.CsvReader;
+import com.vishal.manageMoney.utils.Money;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Imports a bank statement CSV as a stream: rows are parsed one at a time and written in fixed-size chunks,
+// each in its own transaction, so memory stays flat however long the statement is
+@Service
+public class StatementImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementImportService.class);
+    private static final int MAX_FIELD_LENGTH = 4096;
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final UserRepository userRepository;
+    private final RollupService rollupService;
+    private final SearchIndexService searchIndexService;
+    private final CollectionVersionService collectionVersionService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    // Latest progress per user; an entry with status RUNNING also blocks a second concurrent import
+    private final Map<Long, ImportResultDTO> progress = new ConcurrentHashMap<>();
+
+    public StatementImportService(ExpenseRepository expenseRepository, IncomeRepository incomeRepository,
+                                  UserRepository userRepository, RollupService rollupService,
+                                  SearchIndexService searchIndexService, CollectionVersionService collectionVersionService,
+                                  Validator validator, EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.import.chunkSize:500}") int chunkSize,
+                                  @Value("${app.import.maxReportedErrors:100}") int maxReportedErrors) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.userRepository = userRepository;
+        this.rollupService = rollupService;
+        this.searchIndexService = searchIndexService;
+        this.collectionVersionService = collectionVersionService;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    // Progress of the running import, or the outcome of the last one
+    public ImportResultDTO getProgress(Long userId) {
+        ImportResultDTO current = progress.get(userId);
+        return current == null ? null : current.copy();
+    }
+
+    public ImportResultDTO importCsv(Long userId, InputStream input, CsvColumnMapping mapping) {
+        ImportResultDTO result = new ImportResultDTO();
+        result.setStartedAt(LocalDateTime.now());
+        ImportResultDTO previous = progress.compute(userId,
+                (id, existing) -> existing != null && ImportResultDTO.RUNNING.equals(existing.getStatus()) ? existing : result);
+        if (previous != result) {
+            throw new IllegalStateException("An import is already running for this user");
+        }
+
+        try {
+            runImport(userId, input, mapping, result);
+            result.setStatus(ImportResultDTO.COMPLETED);
+        } catch (IllegalArgumentException e) {
+            result.setStatus(ImportResultDTO.FAILED);
+            result.setMessage(e.getMessage());
+            publish(userId, result);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // Chunks written before the failure stay committed; the counts say how far the import got
+            logger.error("Import failed for userId: {} after {} rows", userId, result.getRowsRead(), e);
+            result.setStatus(ImportResultDTO.FAILED);
+            result.setMessage(e.getMessage());
+        }
+        result.setFinishedAt(LocalDateTime.now());
+        publish(userId, result);
+        logger.info("Import {} for userId: {} - rows {}, expenses {}, incomes {}, duplicates {}, rejected {}",
+                result.getStatus(), userId, result.getRowsRead(), result.getExpensesCreated(),
+                result.getIncomesCreated(), result.getDuplicatesSkipped(), result.getRowsRejected());
+        return result.copy();
+    }
+
+    private void runImport(Long userId, InputStream input, CsvColumnMapping mapping, ImportResultDTO result) throws IOException {
+        DateTimeFormatter dateFormat = dateFormat(mapping.getDateFormat());
+        CsvReader csv = new CsvReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)),
+                delimiter(mapping.getDelimiter()), MAX_FIELD_LENGTH);
+
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV is empty");
+        }
+        Columns columns = new Columns(header, mapping);
+
+        ImportDedupIndex index = loadDedupIndex(userId);
+        User owner = userRepository.getReferenceById(userId);
+
+        List<Expense> expenses = new ArrayList<>(chunkSize);
+        List<Income> incomes = new ArrayList<>(chunkSize);
+        List<String> row;
+        while ((row = csv.next()) != null) {
+            result.setRowsRead(result.getRowsRead() + 1);
+            try {
+                mapRow(row, columns, mapping, dateFormat, owner, index, expenses, incomes, result);
+            } catch (IllegalArgumentException e) {
+                reject(result, csv.getRecordLine(), e.getMessage());
+            }
+
+            if (expenses.size() + incomes.size() >= chunkSize) {
+                writeChunk(userId, expenses, incomes, result);
+            }
+        }
+        writeChunk(userId, expenses, incomes, result);
+    }
+
+    private void mapRow(List<String> row, Columns columns, CsvColumnMapping mapping, DateTimeFormatter dateFormat,
+                        User owner, ImportDedupIndex index,
+                        List<Expense> expenses, List<Income> incomes, ImportResultDTO result) {
+        LocalDate date = parseDate(columns.value(row, columns.date), dateFormat);
+        String description = columns.value(row, columns.description);
+        String category = columns.category >= 0 ? columns.value(row, columns.category) : null;
+        if (category == null || category.isBlank()) {
+            category = mapping.getDefaultCategory();
+        }
+
+        // A negative signed amount or a filled debit column is money going out
+        Money amount;
+        if (columns.debit >= 0) {
+            String debit = columns.value(row, columns.debit);
+            amount = debit.isBlank()
+                    ? parseAmount(columns.value(row, columns.credit)).abs()
+                    : parseAmount(debit).abs().negate();
+        } else {
+            amount = parseAmount(columns.value(row, columns.amount));
+        }
+        if (amount.signum() == 0) {
+            throw new IllegalArgumentException("Amount is zero");
+        }
+
+        RollupKind kind = amount.signum() < 0 ? RollupKind.EXPENSE : RollupKind.INCOME;
+        Money absolute = amount.abs();
+        if (index.consume(kind, date, absolute, description)) {
+            result.setDuplicatesSkipped(result.getDuplicatesSkipped() + 1);
+            return;
+        }
+
+        if (kind == RollupKind.EXPENSE) {
+            Expense expense = new Expense();
+            expense.setDate(date);
+            expense.setDescription(description);
+            expense.setCategory(category);
+            expense.setAmount(absolute);
+            expense.setPaymentMode(mapping.getPaymentMode());
+            expense.setUser(owner);
+            checkValid(expense);
+            expenses.add(expense);
+        } else {
+            Income income = new Income();
+            income.setDate(date);
+            income.setDescription(description);
+            income.setCategory(category);
+            income.setAmount(absolute);
+            income.setSource(mapping.getIncomeSource());
+            income.setUser(owner);
+            checkValid(income);
+            incomes.add(income);
+        }
+    }
+
+    // One transaction per chunk; the persistence context is cleared afterwards so written rows are not retained
+    private void writeChunk(Long userId, List<Expense> expenses, List<Income> incomes, ImportResultDTO result) {
+        if (expenses.isEmpty() && incomes.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            expenseRepository.saveAll(expenses);
+            incomeRepository.saveAll(incomes);
+            rollupService.addAll(userId, RollupKind.EXPENSE, expenses, Expense::getDate, Expense::getCategory, Expense::getAmount);
+            rollupService.addAll(userId, RollupKind.INCOME, incomes, Income::getDate, Income::getSource, Income::getAmount);
+            searchIndexService.addAll(userId, RollupKind.EXPENSE, expenses, Expense::getId, Expense::getDate, Expense::getDescription);
+            searchIndexService.addAll(userId, RollupKind.INCOME, incomes, Income::getId, Income::getDate, Income::getDescription);
+            if (!expenses.isEmpty()) {
+                collectionVersionService.bump(userId, RollupKind.EXPENSE);
+            }
+            if (!incomes.isEmpty()) {
+                collectionVersionService.bump(userId, RollupKind.INCOME);
+            }
+        });
+        entityManager.clear();
+
+        result.setExpensesCreated(result.getExpensesCreated() + expenses.size());
+        result.setIncomesCreated(result.getIncomesCreated() + incomes.size());
+        result.setChunksWritten(result.getChunksWritten() + 1);
+        expenses.clear();
+        incomes.clear();
+        publish(userId, result);
+        logger.debug("Import chunk {} written for userId: {} ({} rows read)", result.getChunksWritten(), userId, result.getRowsRead());
+    }
+
+    // Hashes of the user's existing rows, streamed once instead of a lookup per imported row
+    private ImportDedupIndex loadDedupIndex(Long userId) {
+        ImportDedupIndex index = new ImportDedupIndex();
+        readOnlyTemplate.executeWithoutResult(status -> {
+            try (Stream<DedupSource> rows = expenseRepository.streamDedupSourcesByUserId(userId)) {
+                rows.forEach(r -> index.add(RollupKind.EXPENSE, r.getDate(), r.getAmount(), r.getDescription()));
+            }
+            try (Stream<DedupSource> rows = incomeRepository.streamDedupSourcesByUserId(userId)) {
+                rows.forEach(r -> index.add(RollupKind.INCOME, r.getDate(), r.getAmount(), r.getDescription()));
+            }
+        });
+        entityManager.clear();
+        return index;
+    }
+
+    private void checkValid(Object entity) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private void reject(ImportResultDTO result, long line, String message) {
+        result.setRowsRejected(result.getRowsRejected() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new ImportRowErrorDTO(line, message));
+        }
+    }
+
+    private void publish(Long userId, ImportResultDTO result) {
+        progress.put(userId, result.copy());
+    }
+
+    private static LocalDate parseDate(String value, DateTimeFormatter dateFormat) {
+        try {
+            return LocalDate.parse(value.trim(), dateFormat);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    // Accepts "1,234.50", "-12.00", "(12.00)" and leading currency symbols; rounds to whole paise
+    private static Money parseAmount(String value) {
+        String cleaned = value.trim();
+        boolean negative = cleaned.startsWith("(") && cleaned.endsWith(")");
+        if (negative) {
+            cleaned = cleaned.substring(1, cleaned.length() - 1);
+        }
+        cleaned = cleaned.replaceAll("[^0-9.+-]", "");
+        if (cleaned.isEmpty()) {
+            throw new IllegalArgumentException("Amount is required");
+        }
+        try {
+            Money amount = Money.parse(cleaned);
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    private static DateTimeFormatter dateFormat(String pattern) {
+        try {
+            return DateTimeFormatter.ofPattern(pattern, Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid date format: " + pattern);
+        }
+    }
+
+    private static char delimiter(String delimiter) {
+        if ("\\t".equals(delimiter) || "tab".equalsIgnoreCase(delimiter)) {
+            return '\t';
+        }
+        if (delimiter == null || delimiter.length() != 1) {
+            throw new IllegalArgumentException("Delimiter must be a single character");
+        }
+        return delimiter.charAt(0);
+    }
+
+    // Header positions of the mapped columns, matched case-insensitively
+    private static final class Columns {
+        private final List<String> header;
+        private final int date;
+        private final int description;
+        private final int amount;
+        private final int debit;
+        private final int credit;
+        private final int category;
+
+        Columns(List<String> header, CsvColumnMapping mapping) {
+            this.header = header.stream()
+                    .map(name -> name.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList());
+            this.date = required(mapping.getDateColumn());
+            this.description = required(mapping.getDescriptionColumn());
+            boolean debitCredit = mapping.getDebitColumn() != null || mapping.getCreditColumn() != null;
+            this.debit = debitCredit ? required(mapping.getDebitColumn()) : -1;
+            this.credit = debitCredit ? required(mapping.getCreditColumn()) : -1;
+            this.amount = debitCredit ? -1 : required(mapping.getAmountColumn());
+            this.category = mapping.getCategoryColumn() != null ? required(mapping.getCategoryColumn()) : -1;
+        }
+
+        private int required(String name) {
+            int position = name == null ? -1 : header.indexOf(name.trim().toLowerCase(Locale.ROOT));
+            if (position < 0) {
+                throw new IllegalArgumentException("Column not found in CSV header: " + name);
+            }
+            return position;
+        }
+
+        private String value(List<String> row, int position) {
+            return position < row.size() ? row.get(position) : "";
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.vishal.manageMoney.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.vishal.manageMoney.dto.CursorPage;
+import com.vishal.manageMoney.dto.TransactionFeedItemDTO;
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.repository.ExpenseRepository;
+import com.vishal.manageMoney.repository.IncomeRepository;
+import com.vishal.manageMoney.repository.InvestmentRepository;
+import com.vishal.manageMoney.repository.LoanRepository;
+import com.vishal.manageMoney.utils.FeedCursor;
+import com.vishal.manageMoney.utils.KeysetCursor;
+
+// Expenses, incomes, investments and loans merged into one date-ordered feed.
+// Each kind is read with its own (date, id) keyset page query, which walks the per-user date index and stops
+// after size + 1 rows; the four sorted runs are then merged, so a page costs at most four short index scans.
+@Service
+public class TransactionFeedService {
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final InvestmentRepository investmentRepository;
+    private final LoanRepository loanRepository;
+
+    public TransactionFeedService(ExpenseRepository expenseRepository, IncomeRepository incomeRepository,
+                                  InvestmentRepository investmentRepository, LoanRepository loanRepository) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.investmentRepository = investmentRepository;
+        this.loanRepository = loanRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionFeedItemDTO> getFeed(Long userId, String cursor, Integer size, String sort, String kinds) {
+        FeedCursor keyset = FeedCursor.of(cursor, sort);
+        Limit limit = KeysetCursor.limit(size);
+        Limit lookahead = KeysetCursor.lookahead(limit);
+
+        List<List<TransactionFeedItemDTO>> runs = new ArrayList<>();
+        for (RollupKind kind : parseKinds(kinds)) {
+            runs.add(fetchRun(userId, kind, keyset, lookahead));
+        }
+
+        List<TransactionFeedItemDTO> merged = merge(runs, keyset.isAscending(), lookahead.max());
+        boolean hasNext = merged.size() > limit.max();
+        List<TransactionFeedItemDTO> items = hasNext ? merged.subList(0, limit.max()) : merged;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionFeedItemDTO last = items.get(items.size() - 1);
+            nextCursor = FeedCursor.encode(keyset.getDirection(), last.getDate(), last.getKind(), last.getId());
+        }
+        return new CursorPage<>(items, items.size(), keyset.getDirection().name().toLowerCase(Locale.ROOT), nextCursor);
+    }
+
+    // One kind's rows after the cursor, already in feed order
+    private List<TransactionFeedItemDTO> fetchRun(Long userId, RollupKind kind, FeedCursor keyset, Limit lookahead) {
+        LocalDate date = keyset.afterDate();
+        Long id = keyset.afterId(kind);
+        boolean asc = keyset.isAscending();
+        return switch (kind) {
+            case EXPENSE -> (asc ? expenseRepository.findResponsePageAsc(userId, date, id, lookahead)
+                    : expenseRepository.findResponsePageDesc(userId, date, id, lookahead)).stream()
+                    .map(e -> new TransactionFeedItemDTO(kind, e.getId(), e.getDate(), e.getCategory(),
+                            e.getDescription(), null, e.getAmount()))
+                    .toList();
+            case INCOME -> (asc ? incomeRepository.findResponsePageAsc(userId, date, id, lookahead)
+                    : incomeRepository.findResponsePageDesc(userId, date, id, lookahead)).stream()
+                    .map(i -> new TransactionFeedItemDTO(kind, i.getId(), i.getDate(), i.getCategory(),
+                            i.getDescription(), i.getSource(), i.getAmount()))
+                    .toList();
+            case INVESTMENT -> (asc ? investmentRepository.findResponsePageAsc(userId, date, id, lookahead)
+                    : investmentRepository.findResponsePageDesc(userId, date, id, lookahead)).stream()
+                    .map(i -> new TransactionFeedItemDTO(kind, i.getId(), i.getDate(), i.getType(),
+                            i.getDescription(), i.getInstitution(), i.getAmount()))
+                    .toList();
+            case LOAN -> (asc ? loanRepository.findResponsePageAsc(userId, date, id, lookahead)
+                    : loanRepository.findResponsePageDesc(userId, date, id, lookahead)).stream()
+                    .map(l -> new TransactionFeedItemDTO(kind, l.getId(), l.getStartDate(), l.getType(),
+                            l.getDescription(), l.getLender(), l.getPrincipal()))
+                    .toList();
+        };
+    }
+
+    // k-way merge of sorted runs: repeatedly takes the smallest head, stopping once max rows are out
+    private static List<TransactionFeedItemDTO> merge(List<List<TransactionFeedItemDTO>> runs, boolean ascending, int max) {
+        int[] heads = new int[runs.size()];
+        List<TransactionFeedItemDTO> merged = new ArrayList<>(max);
+        while (merged.size() < max) {
+            int best = -1;
+            for (int run = 0; run < runs.size(); run++) {
+                if (heads[run] < runs.get(run).size()
+                        && (best < 0 || precedes(runs.get(run).get(heads[run]), runs.get(best).get(heads[best]), ascending))) {
+                    best = run;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            merged.add(runs.get(best).get(heads[best]++));
+        }
+        return merged;
+    }
+
+    private static boolean precedes(TransactionFeedItemDTO a, TransactionFeedItemDTO b, boolean ascending) {
+        int order = a.getDate().compareTo(b.getDate());
+        if (order == 0) {
+            order = a.getKind().compareTo(b.getKind());
+        }
+        if (order == 0) {
+            order = a.getId().compareTo(b.getId());
+        }
+        return ascending ? order < 0 : order > 0;
+    }
+
+    // Comma-separated kinds such as "expense,income"; every kind when absent
+    static Set<RollupKind> parseKinds(String kinds) {
+        if (!StringUtils.hasText(kinds)) {
+            return EnumSet.allOf(RollupKind.class);
+        }
+        Set<RollupKind> parsed = EnumSet.noneOf(RollupKind.class);
+        for (String kind : kinds.split(",")) {
+            if (StringUtils.hasText(kind)) {
+                try {
+                    parsed.add(RollupKind.valueOf(kind.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Unknown kind: " + kind.trim());
+                }
+            }
+        }
+        return parsed;
+    }
+}
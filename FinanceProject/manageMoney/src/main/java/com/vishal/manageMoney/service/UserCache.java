@@ -0,0 +1,80 @@
+package com.vishal.manageMoney.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.vishal.manageMoney.dto.ProfileDTO;
+import com.vishal.manageMoney.entity.User;
+
+// Bounded, TTL-based cache of user profiles keyed by user id; a max size of 0 disables it
+@Component
+public class UserCache {
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final Map<Long, CachedProfile> entries;
+
+    public UserCache(@Value("${app.userCache.maxEntries:10000}") int maxEntries,
+                     @Value("${app.userCache.ttlMs:300000}") long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProfile> eldest) {
+                return size() > UserCache.this.maxEntries;
+            }
+        };
+    }
+
+    // Returns a copy of the cached profile, or null when absent or stale
+    public ProfileDTO get(Long userId) {
+        if (maxEntries <= 0 || userId == null) {
+            return null;
+        }
+        synchronized (entries) {
+            CachedProfile cached = entries.get(userId);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAtMillis <= System.currentTimeMillis()) {
+                entries.remove(userId);
+                return null;
+            }
+            return copyOf(cached.profile);
+        }
+    }
+
+    public ProfileDTO put(User user) {
+        ProfileDTO profile = new ProfileDTO(user.getId(), user.getEmail(), user.getFullName(), user.getPhone());
+        if (maxEntries > 0) {
+            synchronized (entries) {
+                entries.put(user.getId(), new CachedProfile(copyOf(profile), System.currentTimeMillis() + ttlMs));
+            }
+        }
+        return profile;
+    }
+
+    // Called whenever a user's profile changes
+    public void invalidate(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private static ProfileDTO copyOf(ProfileDTO profile) {
+        return new ProfileDTO(profile.getId(), profile.getEmail(), profile.getFullName(), profile.getPhone());
+    }
+
+    private static final class CachedProfile {
+        private final ProfileDTO profile;
+        private final long expiresAtMillis;
+
+        private CachedProfile(ProfileDTO profile, long expiresAtMillis) {
+            this.profile = profile;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.vishal.manageMoney.exception.DatabaseException;
 import com.vishal.manageMoney.exception.UserNotFoundException;
 import com.vishal.manageMoney.repository.UserRepository;
 import com.vishal.manageMoney.utils.JwtUtils;
+import com.vishal.manageMoney.utils.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -24,10 +25,12 @@ public class UserService {
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
+    private final UserCache userCache;
 
-    public UserService(UserRepository userRepository, JwtUtils jwtUtils) {
+    public UserService(UserRepository userRepository, JwtUtils jwtUtils, UserCache userCache) {
         this.userRepository = userRepository;
         this.jwtUtils = jwtUtils;
+        this.userCache = userCache;
     }
 
    // convert user to user-response
@@ -56,15 +59,10 @@ public class UserService {
         try {
             logger.info("Fetching user profile for userId: {}", userId);
             
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.warn("User not found with id: {}", userId);
-                        return new UserNotFoundException("User not found with id: " + userId);
-                    });
+            ProfileDTO profile = getCachedProfile(userId);
 
-            logger.info(user.toString());
             logger.info("Successfully retrieved user profile for userId: {}", userId);
-            return new UserResponse(user.getEmail(), user.getFullName(), user.getPhone());
+            return new UserResponse(profile.getEmail(), profile.getFullName(), profile.getPhone());
             
         } catch (DataAccessException e) {
             logger.error("Database error while fetching user profile for userId: {}", userId, e);
@@ -85,40 +83,39 @@ public class UserService {
                 });
         logger.info("Changing full name for user: {} to newUser : {}", user, request.getNewfullName());
         user.setFullName(request.getNewfullName());
-        return convertToUserResponse(userRepository.save(user));
+        User savedUser = userRepository.save(user);
+        userCache.invalidate(userId);
+        return convertToUserResponse(savedUser);
     }
 
 
     // to return authenticated user's information
     public ProfileDTO getProfleDetails(HttpServletRequest request) {
         // Extract JWT token from Authorization header
-        String jwt = getJwtFromRequest(request);
+        String jwt = jwtUtils.getJwtFromRequest(request);
         
         if (jwt == null) {
             logger.error("No JWT token found in request headers");
             throw new IllegalArgumentException("Authorization token is required");
         }
         
-        // Validate the JWT token
-        if (!jwtUtils.validateJwtToken(jwt)) {
+        // Reuse the claims verified by AuthTokenFilter instead of parsing the token again
+        VerifiedToken verified = jwtUtils.getVerifiedToken(request);
+        if (verified == null) {
             logger.error("Invalid JWT token provided");
             throw new IllegalArgumentException("Invalid or expired token");
         }
         
         try {
             // Extract user ID from the token
-            Long userId = jwtUtils.getUserIdFromJwtToken(jwt);
+            Long userId = verified.getUserId();
             logger.info("Extracting profile details for userId: {}", userId);
             
-            // Fetch user from database
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.warn("User not found with id: {}", userId);
-                        return new UserNotFoundException("User not found with id: " + userId);
-                    });
+            // Served from the user cache when possible, otherwise fetched from the database
+            ProfileDTO profile = getCachedProfile(userId);
             
             logger.info("Successfully retrieved profile details for userId: {}", userId);
-            return new ProfileDTO(user.getId(), user.getEmail(), user.getFullName(), user.getPhone());
+            return profile;
             
         } catch (DataAccessException e) {
             logger.error("Database error while fetching profile details", e);
@@ -129,6 +126,20 @@ public class UserService {
         }
     }
 
+    // to return a user's profile, loading it into the user cache on a miss
+    public ProfileDTO getCachedProfile(Long userId) {
+        ProfileDTO cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    logger.warn("User not found with id: {}", userId);
+                    return new UserNotFoundException("User not found with id: " + userId);
+                });
+        return userCache.put(user);
+    }
+
     // to update user profile
     public UserResponse updateProfile(Long userId, UpdateProfileDTO request) {
         // Validate input
@@ -163,6 +174,7 @@ public class UserService {
             }
 
             User savedUser = userRepository.save(user);
+            userCache.invalidate(userId);
             logger.info("Successfully updated profile for userId: {}", userId);
             
             return convertToUserResponse(savedUser);
@@ -175,13 +187,4 @@ public class UserService {
             throw new RuntimeException("An unexpected error occurred while updating profile", e);
         }
     }
-    
-    // Helper method to extract JWT token from request headers
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
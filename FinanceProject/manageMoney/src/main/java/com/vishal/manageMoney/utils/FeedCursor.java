@@ -0,0 +1,94 @@
+package com.vishal.manageMoney.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import com.vishal.manageMoney.entity.RollupKind;
+
+// Keyset position in the merged transaction feed, ordered on (date, kind, id).
+// Ids are only unique within a kind, so the kind breaks ties between rows of different kinds on the same date.
+public final class FeedCursor {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final Sort.Direction direction;
+    private final LocalDate date;
+    private final RollupKind kind;
+    private final Long id;
+
+    private FeedCursor(Sort.Direction direction, LocalDate date, RollupKind kind, Long id) {
+        this.direction = direction;
+        this.date = date;
+        this.kind = kind;
+        this.id = id;
+    }
+
+    // Reads the cursor if present; otherwise starts at the first page in the requested sort order
+    public static FeedCursor of(String cursor, String sort) {
+        if (!StringUtils.hasText(cursor)) {
+            return new FeedCursor(parseDirection(sort), null, null, null);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new FeedCursor(Sort.Direction.fromString(parts[0]), LocalDate.parse(parts[1]),
+                    RollupKind.valueOf(parts[2]), Long.valueOf(parts[3]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public static String encode(Sort.Direction direction, LocalDate date, RollupKind kind, Long id) {
+        String raw = direction.name() + "|" + date + "|" + kind.name() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    // Date bound for one kind's (date, id) page query
+    public LocalDate afterDate() {
+        if (date != null) {
+            return date;
+        }
+        return direction.isAscending() ? FIRST_DATE : LAST_DATE;
+    }
+
+    // Id bound for one kind's (date, id) page query. On the cursor's own date, kinds that sort after the
+    // cursor's kind still have every row ahead of it and kinds that sort before it have none
+    public Long afterId(RollupKind candidate) {
+        if (date == null) {
+            return direction.isAscending() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        if (candidate == kind) {
+            return id;
+        }
+        boolean candidateFollows = direction.isAscending()
+                ? candidate.compareTo(kind) > 0
+                : candidate.compareTo(kind) < 0;
+        return candidateFollows == direction.isAscending() ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    // Newest first unless "asc" is requested
+    private static Sort.Direction parseDirection(String sort) {
+        if (!StringUtils.hasText(sort)) {
+            return Sort.Direction.DESC;
+        }
+        return Sort.Direction.fromOptionalString(sort)
+                .orElseThrow(() -> new IllegalArgumentException("Sort must be 'asc' or 'desc'"));
+    }
+}
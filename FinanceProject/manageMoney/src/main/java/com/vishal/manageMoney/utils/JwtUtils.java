@@ -2,83 +2,160 @@ package com.vishal.manageMoney.utils;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
 
-    @Value("${app.jwtSecret:mySecretKeyForJWTTokenGenerationonlyindevelopmentassoonasitwillbedeployedthetokenwillcomefromrender}")
-    private String jwtSecret;
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
-    @Value("${app.jwtExpirationMs:86400000}")
-    private int jwtExpirationMs;
+    // Request attribute holding the VerifiedToken once AuthTokenFilter has checked it
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = JwtUtils.class.getName() + ".VERIFIED_TOKEN";
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private final int jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final JwtClaimsCache claimsCache;
+    // Verification latency by whether the cache answered and whether the token was accepted
+    private final Timer cachedVerification;
+    private final Timer parsedValid;
+    private final Timer parsedInvalid;
+
+    public JwtUtils(
+            @Value("${app.jwtSecret:mySecretKeyForJWTTokenGenerationonlyindevelopmentassoonasitwillbedeployedthetokenwillcomefromrender}") String jwtSecret,
+            @Value("${app.jwtExpirationMs:86400000}") int jwtExpirationMs,
+            JwtClaimsCache claimsCache,
+            MeterRegistry meterRegistry) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        // The key and parser are immutable and thread-safe, so they are built once
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.claimsCache = claimsCache;
+        this.cachedVerification = verificationTimer(meterRegistry, "hit", "valid");
+        this.parsedValid = verificationTimer(meterRegistry, "miss", "valid");
+        this.parsedInvalid = verificationTimer(meterRegistry, "miss", "invalid");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String cache, String result) {
+        return Timer.builder("auth.jwt.verify")
+                .tag("cache", cache)
+                .tag("result", result)
+                .description("Time to verify a bearer token")
+                .register(meterRegistry);
     }
 
     // Generate JWT token using id and username as requested
     public String generateJwtToken(Long userId, String username) {
+        Date now = new Date();
         return Jwts.builder()
                 .claim("id", userId)
                 .claim("username", username)
                 .subject(username)
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey)
                 .compact();
     }
 
     // Get username from token
     public String getUserNameFromJwtToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.getSubject();
+        return verify(token).getUsername();
     }
 
     // Get user ID from token
     public Long getUserIdFromJwtToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.get("id", Long.class);
-    }
-
-    // Get all claims from token
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.getExpiration().before(new Date());
+        return verify(token).getUserId();
     }
 
     // Validate JWT token
     public Boolean validateJwtToken(String authToken) {
+        return getVerifiedToken(authToken) != null;
+    }
+
+    // Verify the token once and return its claims, or null when the token is not valid
+    public VerifiedToken getVerifiedToken(String authToken) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(authToken);
-            
-            // Explicitly check if token is expired
-            return !isTokenExpired(authToken);
+            return verify(authToken);
         } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
+            logger.debug("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
+            logger.debug("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
+        } catch (SecurityException e) {
+            // Not produced by this server's key, unlike an expired or mangled token
+            logger.warn("Invalid JWT signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            logger.debug("JWT claims string is empty: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    // Claims for the current request: reuses what AuthTokenFilter stored, otherwise verifies the header
+    public VerifiedToken getVerifiedToken(HttpServletRequest request) {
+        Object attribute = request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE);
+        if (attribute instanceof VerifiedToken verified) {
+            return verified;
+        }
+        String jwt = getJwtFromRequest(request);
+        if (jwt == null) {
+            return null;
+        }
+        VerifiedToken verified = getVerifiedToken(jwt);
+        if (verified != null) {
+            request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verified);
+        }
+        return verified;
+    }
+
+    // Extract the bearer token from the Authorization header
+    public String getJwtFromRequest(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    // Parse and verify the token, consulting the cache of recently verified tokens first
+    private VerifiedToken verify(String token) {
+        long startedAt = System.nanoTime();
+        VerifiedToken cached = claimsCache.get(token);
+        if (cached != null) {
+            cachedVerification.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        Timer timer = parsedInvalid;
+        try {
+            // parseSignedClaims checks the signature and rejects expired tokens in one pass
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                throw new UnsupportedJwtException("JWT token has no expiration");
+            }
+
+            VerifiedToken verified = new VerifiedToken(
+                    claims.get("id", Long.class),
+                    claims.getSubject(),
+                    expiration.getTime());
+            claimsCache.put(token, verified);
+            timer = parsedValid;
+            return verified;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
-        return false;
     }
 }
@@ -0,0 +1,120 @@
+package com.vishal.manageMoney.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import com.vishal.manageMoney.dto.CursorPage;
+
+// Keyset pagination on (date, id): holds the bounds and limit for the page query and encodes opaque cursors
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final Sort.Direction direction;
+    private final LocalDate date;
+    private final Long id;
+
+    private KeysetCursor(Sort.Direction direction, LocalDate date, Long id) {
+        this.direction = direction;
+        this.date = date;
+        this.id = id;
+    }
+
+    // Reads the cursor if present; otherwise starts at the first page in the requested sort order
+    public static KeysetCursor of(String cursor, String sort) {
+        if (!StringUtils.hasText(cursor)) {
+            return new KeysetCursor(parseDirection(sort), null, null);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parseDirection(parts[0]), LocalDate.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    // The view key a page request is cached under, built from the effective position, size and direction, so
+    // equivalent requests (size omitted or 50, sort omitted or "desc", any sort alongside a cursor) share one entry
+    public static String pageView(String cursor, Integer size, String sort) {
+        KeysetCursor keyset = of(cursor, sort);
+        String after = keyset.date == null ? "" : keyset.date + "|" + keyset.id;
+        return "page?after=" + after + "&size=" + limit(size).max() + "&sort=" + keyset.direction.name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Limit limit(Integer size) {
+        if (size == null) {
+            return Limit.of(DEFAULT_PAGE_SIZE);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Limit.of(Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    // Keyset bounds for the query; the first page starts beyond either end of the (date, id) range
+    public LocalDate afterDate() {
+        if (date != null) {
+            return date;
+        }
+        return direction.isAscending() ? FIRST_DATE : LAST_DATE;
+    }
+
+    public Long afterId() {
+        if (id != null) {
+            return id;
+        }
+        return direction.isAscending() ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    // One row more than the page, so the query also tells whether another page follows
+    public static Limit lookahead(Limit limit) {
+        return Limit.of(limit.max() + 1);
+    }
+
+    // Trims the lookahead row and encodes the position of the last returned row as the next cursor
+    public <D> CursorPage<D> toPage(List<D> rows, Limit limit, Function<D, LocalDate> dateOf, Function<D, Long> idOf) {
+        boolean hasNext = rows.size() > limit.max();
+        List<D> items = hasNext ? rows.subList(0, limit.max()) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            D last = items.get(items.size() - 1);
+            nextCursor = encode(dateOf.apply(last), idOf.apply(last));
+        }
+        return new CursorPage<>(items, items.size(), direction.name().toLowerCase(), nextCursor);
+    }
+
+    private String encode(LocalDate lastDate, Long lastId) {
+        String raw = direction.name() + "|" + lastDate + "|" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Newest first unless "asc" is requested
+    private static Sort.Direction parseDirection(String sort) {
+        if (!StringUtils.hasText(sort)) {
+            return Sort.Direction.DESC;
+        }
+        return Sort.Direction.fromOptionalString(sort)
+                .orElseThrow(() -> new IllegalArgumentException("Sort must be 'asc' or 'desc'"));
+    }
+}
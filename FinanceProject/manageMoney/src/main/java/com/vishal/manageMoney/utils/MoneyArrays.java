@@ -0,0 +1,47 @@
+package com.vishal.manageMoney.utils;
+
+// Aggregation over amounts held as primitive long paise. Nothing here boxes, and every sum is overflow-checked,
+// so totals over long histories are exact without BigDecimal or Long allocations per row.
+public final class MoneyArrays {
+
+    private MoneyArrays() {
+    }
+
+    public static long sum(long[] amounts) {
+        long total = 0;
+        for (long amount : amounts) {
+            total = Math.addExact(total, amount);
+        }
+        return total;
+    }
+
+    // Indexes of amounts from largest to smallest; equal amounts keep their original order.
+    // A merge sort over an int[] of indexes, so no Integer[] or comparator is needed
+    public static int[] descendingOrder(long[] amounts) {
+        int n = amounts.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        int[] scratch = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int left = 0; left < n - width; left += 2 * width) {
+                merge(amounts, order, scratch, left, left + width, Math.min(left + 2 * width, n));
+            }
+        }
+        return order;
+    }
+
+    private static void merge(long[] amounts, int[] order, int[] scratch, int from, int middle, int to) {
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && amounts[scratch[left]] >= amounts[scratch[right]])) {
+                order[i] = scratch[left++];
+            } else {
+                order[i] = scratch[right++];
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.vishal.manageMoney.utils;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Min;
+
+// Lets @Min(value) guard Money fields; value is in rupees, like it was on the old Double fields.
+// Registered with Hibernate Validator through META-INF/services/jakarta.validation.ConstraintValidator
+public class MoneyMinValidator implements ConstraintValidator<Min, Money> {
+
+    private long minMinorUnits;
+
+    @Override
+    public void initialize(Min constraint) {
+        minMinorUnits = Math.multiplyExact(constraint.value(), 100L);
+    }
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.getMinorUnits() >= minMinorUnits;
+    }
+}
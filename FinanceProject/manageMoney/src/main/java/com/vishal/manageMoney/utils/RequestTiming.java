@@ -0,0 +1,72 @@
+package com.vishal.manageMoney.utils;
+
+import java.util.Locale;
+
+// Where the current request's time went, for the Server-Timing header. ServerTimingFilter starts one per request
+// on the request thread; the static add methods are no-ops when none is running (the feature is off, or the work
+// happens off the request thread), so instrumented code can call them unconditionally.
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private long authNanos;
+    private long dbNanos;
+    private int statements;
+    private long serializationNanos;
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void addAuth(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.authNanos += nanos;
+        }
+    }
+
+    // One round trip to the database, a JDBC batch included, or a wait for a pooled connection or while preparing a
+    // statement (statement false)
+    public static void addDb(long nanos, boolean statement) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.dbNanos += nanos;
+            if (statement) {
+                timing.statements++;
+            }
+        }
+    }
+
+    public static void addSerialization(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.serializationNanos += nanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    // e.g. auth;dur=0.41, db;dur=3.20;desc="2 statements", ser;dur=0.85, total;dur=6.02
+    public String toHeader() {
+        return metric("auth", authNanos) + ", "
+                + metric("db", dbNanos) + ";desc=\"" + statements + (statements == 1 ? " statement\"" : " statements\"") + ", "
+                + metric("ser", serializationNanos) + ", "
+                + metric("total", System.nanoTime() - startedAt);
+    }
+
+    private static String metric(String name, long nanos) {
+        return name + ";dur=" + String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
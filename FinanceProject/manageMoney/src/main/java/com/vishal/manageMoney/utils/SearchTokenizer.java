@@ -0,0 +1,84 @@
+package com.vishal.manageMoney.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Splits free text into search terms: runs of letters, digits and combining marks (so Devanagari vowel signs stay
+// inside their word), lower-cased and cut to MAX_TERM_LENGTH code points. One-character terms and stop words are
+// dropped. V7__search_index.sql backfilled with the same rules in SQL, which agree exactly for ASCII text;
+// any change here needs a rebuild (--rebuild-search-index).
+public final class SearchTokenizer {
+
+    public static final int MIN_TERM_LENGTH = 2;
+    public static final int MAX_TERM_LENGTH = 32;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "was", "with");
+
+    private SearchTokenizer() {
+    }
+
+    // A term and the [start, end) character range of the word it came from
+    public record Token(String term, int start, int end) {
+    }
+
+    // Every indexable word of the text, in order, with its position; repeated words appear once per occurrence
+    public static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            if (!isWordChar(codePoint)) {
+                i += Character.charCount(codePoint);
+                continue;
+            }
+            int start = i;
+            while (i < length && isWordChar(codePoint = text.codePointAt(i))) {
+                i += Character.charCount(codePoint);
+            }
+            String term = normalise(text.substring(start, i));
+            if (term != null) {
+                tokens.add(new Token(term, start, i));
+            }
+        }
+        return tokens;
+    }
+
+    // The distinct terms of the text, in first-occurrence order
+    public static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (Token token : tokenize(text)) {
+            terms.add(token.term());
+        }
+        return terms;
+    }
+
+    private static boolean isWordChar(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    // Lower-cased and truncated word, or null when it is too short or a stop word
+    private static String normalise(String word) {
+        String term = word.toLowerCase(Locale.ROOT);
+        if (term.codePointCount(0, term.length()) > MAX_TERM_LENGTH) {
+            term = term.substring(0, term.offsetByCodePoints(0, MAX_TERM_LENGTH));
+        }
+        if (term.codePointCount(0, term.length()) < MIN_TERM_LENGTH || STOP_WORDS.contains(term)) {
+            return null;
+        }
+        return term;
+    }
+}
@@ -0,0 +1,18 @@
+package com.vishal.manageMoney.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Claims of a JWT whose signature and expiry have already been checked
+@AllArgsConstructor
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String username;
+    private final long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,60 @@
+-- Schema as previously created by hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version, so this script only runs on empty databases.
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    full_name   VARCHAR(255) NOT NULL,
+    phone       VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE expenses (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description   VARCHAR(500) NOT NULL,
+    category      VARCHAR(100) NOT NULL,
+    amount        FLOAT(53) NOT NULL,
+    date          DATE NOT NULL,
+    payment_mode  VARCHAR(50) NOT NULL,
+    user_id       BIGINT NOT NULL,
+    CONSTRAINT fk_expenses_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE incomes (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    source       VARCHAR(255) NOT NULL,
+    description  VARCHAR(500) NOT NULL,
+    category     VARCHAR(100) NOT NULL,
+    amount       NUMERIC(38, 2) NOT NULL,
+    date         DATE NOT NULL,
+    user_id      BIGINT NOT NULL,
+    CONSTRAINT fk_incomes_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE investments (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type         VARCHAR(100) NOT NULL,
+    institution  VARCHAR(255) NOT NULL,
+    description  VARCHAR(500) NOT NULL,
+    amount       FLOAT(53) NOT NULL,
+    date         DATE NOT NULL,
+    user_id      BIGINT NOT NULL,
+    CONSTRAINT fk_investments_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE loans (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type           VARCHAR(100) NOT NULL,
+    lender         VARCHAR(255) NOT NULL,
+    description    VARCHAR(500) NOT NULL,
+    principal      FLOAT(53) NOT NULL,
+    interest_rate  FLOAT(53) NOT NULL,
+    emi            FLOAT(53) NOT NULL,
+    start_date     DATE NOT NULL,
+    end_date       DATE NOT NULL,
+    user_id        BIGINT NOT NULL,
+    CONSTRAINT fk_loans_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,7 @@
+-- Per-user list and keyset-page queries filter on user_id and order by (date, id),
+-- so these composite indexes serve them without a sequential scan or a sort.
+
+CREATE INDEX IF NOT EXISTS idx_expenses_user_date ON expenses (user_id, date, id);
+CREATE INDEX IF NOT EXISTS idx_incomes_user_date ON incomes (user_id, date, id);
+CREATE INDEX IF NOT EXISTS idx_investments_user_date ON investments (user_id, date, id);
+CREATE INDEX IF NOT EXISTS idx_loans_user_start_date ON loans (user_id, start_date, id);
@@ -0,0 +1,39 @@
+-- Per-user monthly totals kept in step with every write, so dashboard reads scale with months, not rows.
+-- Rows whose entry_count drops to zero are left in place and ignored by reads.
+
+CREATE TABLE monthly_rollups (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT NOT NULL,
+    month_start  DATE NOT NULL,
+    kind         VARCHAR(20) NOT NULL,
+    category     VARCHAR(255) NOT NULL,
+    total        NUMERIC(19, 2) NOT NULL,
+    entry_count  BIGINT NOT NULL,
+    CONSTRAINT uk_monthly_rollups_bucket UNIQUE (user_id, month_start, kind, category),
+    CONSTRAINT fk_monthly_rollups_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Backfill from existing data; same rounding as the incremental updates
+INSERT INTO monthly_rollups (user_id, month_start, kind, category, total, entry_count)
+SELECT user_id, CAST(date_trunc('month', date) AS DATE), 'EXPENSE', category,
+       SUM(ROUND(CAST(amount AS NUMERIC), 2)), COUNT(*)
+FROM expenses
+GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), category;
+
+INSERT INTO monthly_rollups (user_id, month_start, kind, category, total, entry_count)
+SELECT user_id, CAST(date_trunc('month', date) AS DATE), 'INCOME', source,
+       SUM(ROUND(amount, 2)), COUNT(*)
+FROM incomes
+GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), source;
+
+INSERT INTO monthly_rollups (user_id, month_start, kind, category, total, entry_count)
+SELECT user_id, CAST(date_trunc('month', date) AS DATE), 'INVESTMENT', type,
+       SUM(ROUND(CAST(amount AS NUMERIC), 2)), COUNT(*)
+FROM investments
+GROUP BY user_id, CAST(date_trunc('month', date) AS DATE), type;
+
+INSERT INTO monthly_rollups (user_id, month_start, kind, category, total, entry_count)
+SELECT user_id, CAST(date_trunc('month', start_date) AS DATE), 'LOAN', type,
+       SUM(ROUND(CAST(principal AS NUMERIC), 2)), COUNT(*)
+FROM loans
+GROUP BY user_id, CAST(date_trunc('month', start_date) AS DATE), type;
@@ -0,0 +1,19 @@
+-- Transaction tables move from IDENTITY columns to pooled sequences so Hibernate can batch inserts.
+-- Each sequence hands out blocks of 50 ids (allocationSize = 50 on the entities) and starts past the current max id.
+
+CREATE SEQUENCE expenses_seq INCREMENT BY 50;
+CREATE SEQUENCE incomes_seq INCREMENT BY 50;
+CREATE SEQUENCE investments_seq INCREMENT BY 50;
+CREATE SEQUENCE loans_seq INCREMENT BY 50;
+
+-- Hibernate's pooled optimizer treats the value it reads as the top of a block of 50,
+-- so the first value is max(id) + 50 and the first block begins at max(id) + 1
+SELECT setval('expenses_seq', COALESCE((SELECT MAX(id) FROM expenses), 0) + 50, false);
+SELECT setval('incomes_seq', COALESCE((SELECT MAX(id) FROM incomes), 0) + 50, false);
+SELECT setval('investments_seq', COALESCE((SELECT MAX(id) FROM investments), 0) + 50, false);
+SELECT setval('loans_seq', COALESCE((SELECT MAX(id) FROM loans), 0) + 50, false);
+
+ALTER TABLE expenses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE incomes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE investments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE loans ALTER COLUMN id DROP IDENTITY IF EXISTS;
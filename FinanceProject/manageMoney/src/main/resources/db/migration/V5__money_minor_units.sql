@@ -0,0 +1,21 @@
+-- Money columns become whole paise in BIGINT, read and written through the Money type.
+-- FLOAT amounts are rounded half-up to the nearest paisa, the same rounding the rollups already used.
+-- Columns are renamed so nobody mistakes the new values for rupees.
+
+ALTER TABLE expenses ALTER COLUMN amount TYPE BIGINT USING ROUND(CAST(amount AS NUMERIC) * 100);
+ALTER TABLE expenses RENAME COLUMN amount TO amount_minor;
+
+ALTER TABLE incomes ALTER COLUMN amount TYPE BIGINT USING ROUND(amount * 100);
+ALTER TABLE incomes RENAME COLUMN amount TO amount_minor;
+
+ALTER TABLE investments ALTER COLUMN amount TYPE BIGINT USING ROUND(CAST(amount AS NUMERIC) * 100);
+ALTER TABLE investments RENAME COLUMN amount TO amount_minor;
+
+ALTER TABLE loans ALTER COLUMN principal TYPE BIGINT USING ROUND(CAST(principal AS NUMERIC) * 100);
+ALTER TABLE loans RENAME COLUMN principal TO principal_minor;
+ALTER TABLE loans ALTER COLUMN emi TYPE BIGINT USING ROUND(CAST(emi AS NUMERIC) * 100);
+ALTER TABLE loans RENAME COLUMN emi TO emi_minor;
+
+-- Bucket totals were already rounded to paise, so this conversion is exact
+ALTER TABLE monthly_rollups ALTER COLUMN total TYPE BIGINT USING ROUND(total * 100);
+ALTER TABLE monthly_rollups RENAME COLUMN total TO total_minor;
@@ -0,0 +1,11 @@
+-- The expense/income filter endpoints always constrain user_id and usually one more column.
+-- Category and payment mode filters are equality matches ordered by date, so (user_id, x, date)
+-- serves both the page and its count; amount ranges get their own index and Postgres can
+-- bitmap-AND it with the date or category index when several criteria are combined.
+
+CREATE INDEX IF NOT EXISTS idx_expenses_user_category_date ON expenses (user_id, category, date);
+CREATE INDEX IF NOT EXISTS idx_expenses_user_payment_mode_date ON expenses (user_id, payment_mode, date);
+CREATE INDEX IF NOT EXISTS idx_expenses_user_amount ON expenses (user_id, amount_minor);
+
+CREATE INDEX IF NOT EXISTS idx_incomes_user_category_date ON incomes (user_id, category, date);
+CREATE INDEX IF NOT EXISTS idx_incomes_user_amount ON incomes (user_id, amount_minor);
@@ -0,0 +1,60 @@
+-- Per-user inverted index over transaction descriptions, kept in step with every write by SearchIndexService.
+-- search_postings holds one row per (term, transaction); search_vocabulary holds each user's distinct terms
+-- with the number of transactions containing them, which drives prefix/fuzzy expansion and ranking.
+-- Terms use the "C" collation so that byte order equals code point order and prefix ranges stay on the index.
+-- Vocabulary rows whose doc_count drops to zero are left in place and ignored by reads.
+
+CREATE TABLE search_postings (
+    user_id   BIGINT NOT NULL,
+    term      VARCHAR(32) COLLATE "C" NOT NULL,
+    kind      VARCHAR(20) NOT NULL,
+    txn_id    BIGINT NOT NULL,
+    txn_date  DATE NOT NULL,
+    -- txn_date is carried in the key index so a search reads postings with index-only scans
+    CONSTRAINT pk_search_postings PRIMARY KEY (user_id, term, kind, txn_id) INCLUDE (txn_date),
+    CONSTRAINT fk_search_postings_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Removing or re-dating one transaction's postings
+CREATE INDEX idx_search_postings_txn ON search_postings (user_id, kind, txn_id);
+
+CREATE TABLE search_vocabulary (
+    user_id    BIGINT NOT NULL,
+    term       VARCHAR(32) COLLATE "C" NOT NULL,
+    doc_count  BIGINT NOT NULL,
+    CONSTRAINT pk_search_vocabulary PRIMARY KEY (user_id, term),
+    CONSTRAINT fk_search_vocabulary_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Backfill from existing data with the same rules as SearchTokenizer: lower-case, split on anything that is
+-- not a letter or digit, cut to 32 characters, drop one-character terms and stop words.
+-- The two agree exactly for ASCII text; what counts as a letter beyond ASCII depends on the database's LC_CTYPE,
+-- so run once with --rebuild-search-index if descriptions contain accented or non-Latin words.
+
+CREATE TEMPORARY TABLE search_stop_words (term VARCHAR(32) COLLATE "C" PRIMARY KEY);
+INSERT INTO search_stop_words (term) VALUES
+    ('an'), ('and'), ('are'), ('as'), ('at'), ('be'), ('by'), ('for'), ('from'), ('in'), ('is'), ('it'),
+    ('of'), ('on'), ('or'), ('the'), ('to'), ('was'), ('with');
+
+INSERT INTO search_postings (user_id, term, kind, txn_id, txn_date)
+SELECT DISTINCT s.user_id, s.term, s.kind, s.txn_id, s.txn_date
+FROM (
+    SELECT e.user_id, LEFT(t.token, 32) AS term, 'EXPENSE' AS kind, e.id AS txn_id, e.date AS txn_date
+    FROM expenses e, regexp_split_to_table(lower(e.description), '[^[:alnum:]]+') AS t(token)
+    UNION ALL
+    SELECT i.user_id, LEFT(t.token, 32), 'INCOME', i.id, i.date
+    FROM incomes i, regexp_split_to_table(lower(i.description), '[^[:alnum:]]+') AS t(token)
+    UNION ALL
+    SELECT v.user_id, LEFT(t.token, 32), 'INVESTMENT', v.id, v.date
+    FROM investments v, regexp_split_to_table(lower(v.description), '[^[:alnum:]]+') AS t(token)
+    UNION ALL
+    SELECT l.user_id, LEFT(t.token, 32), 'LOAN', l.id, l.start_date
+    FROM loans l, regexp_split_to_table(lower(l.description), '[^[:alnum:]]+') AS t(token)
+) s
+WHERE char_length(s.term) >= 2
+  AND NOT EXISTS (SELECT 1 FROM search_stop_words w WHERE w.term = s.term);
+
+INSERT INTO search_vocabulary (user_id, term, doc_count)
+SELECT user_id, term, COUNT(*) FROM search_postings GROUP BY user_id, term;
+
+DROP TABLE search_stop_words;
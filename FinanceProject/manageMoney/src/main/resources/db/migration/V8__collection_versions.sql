@@ -0,0 +1,12 @@
+-- One counter per user and transaction kind, bumped in the same transaction as every write to that kind.
+-- The list and single-item GET endpoints derive their ETag from it, so a revalidation that finds the
+-- client's version current answers 304 from this one row without reading the transactions themselves.
+-- Users without a row are at version 0.
+
+CREATE TABLE collection_versions (
+    user_id  BIGINT NOT NULL,
+    kind     VARCHAR(20) NOT NULL,
+    version  BIGINT NOT NULL,
+    CONSTRAINT pk_collection_versions PRIMARY KEY (user_id, kind),
+    CONSTRAINT fk_collection_versions_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,5 @@
+-- Loan totals on the dashboard count every loan active at some point in the range, which a bucket keyed on the
+-- start month cannot answer, so they are read from loans directly. The LOAN buckets backfilled by V3 and kept
+-- since then had no reader and are no longer maintained.
+
+DELETE FROM monthly_rollups WHERE kind = 'LOAN';
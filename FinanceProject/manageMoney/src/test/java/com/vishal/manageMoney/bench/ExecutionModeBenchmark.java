@@ -0,0 +1,187 @@
+package com.vishal.manageMoney.bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.vishal.manageMoney.ManageMoneyApplication;
+import com.vishal.manageMoney.utils.JwtUtils;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Compares the two request execution modes under a database stall: the expenses table is locked while a burst of
+// list requests arrives, so every one of them ends up waiting on the database, and meanwhile requests that need no
+// database at all (unauthenticated calls rejected by the security filter) measure whether the server is
+// still responsive. On platform threads the stalled requests fill Tomcat's 200 workers and the probes queue behind
+// them; on virtual threads they park in the admission queue instead.
+// Not part of the regular build, run with
+//   mvn test -Dtest=ExecutionModeBenchmark -Dbenchmark=true              (platform threads only on Java 17)
+//   mvn test -Pvirtual-threads -Dtest=ExecutionModeBenchmark -Dbenchmark=true   (both modes, Java 21+)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmark {
+
+    private static final long USER_ID = 1_000_000L;
+    private static final int STALLED_REQUESTS = 600;
+    private static final int PROBES = 20;
+    private static final Duration STALL = Duration.ofSeconds(3);
+
+    private static final EmbeddedPostgres postgres;
+
+    static {
+        try {
+            postgres = EmbeddedPostgres.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void platformThreads() throws Exception {
+        report("platform threads", run(false));
+    }
+
+    @Test
+    void virtualThreadsWithAdmissionControl() throws Exception {
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+        report("virtual threads + admission", run(true));
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            seed(jdbc);
+            String token = context.getBean(JwtUtils.class).generateJwtToken(USER_ID, "bench@test.dev");
+            URI list = URI.create("http://localhost:" + port + "/api/expense/user/" + USER_ID + "/all");
+
+            ExecutorService clients = Executors.newFixedThreadPool(STALLED_REQUESTS + PROBES);
+            HttpClient http = HttpClient.newBuilder().executor(clients).connectTimeout(Duration.ofSeconds(30)).build();
+            try {
+                // Warm up the user cache and JIT so the stall is the only thing measured
+                for (int i = 0; i < 20; i++) {
+                    send(http, list, token);
+                }
+
+                ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                threads.resetPeakThreadCount();
+                AtomicInteger ok = new AtomicInteger();
+                AtomicInteger failed = new AtomicInteger();
+                List<Long> probeMillis = new CopyOnWriteArrayList<>();
+                long startedAt;
+
+                try (Connection locker = postgres.getPostgresDatabase().getConnection()) {
+                    locker.setAutoCommit(false);
+                    try (Statement statement = locker.createStatement()) {
+                        statement.execute("LOCK TABLE expenses IN ACCESS EXCLUSIVE MODE");
+                    }
+                    startedAt = System.nanoTime();
+                    List<CompletableFuture<Void>> stalled = new ArrayList<>();
+                    for (int i = 0; i < STALLED_REQUESTS; i++) {
+                        stalled.add(CompletableFuture.runAsync(() -> {
+                            int status = send(http, list, token);
+                            (status == 200 ? ok : failed).incrementAndGet();
+                        }, clients));
+                    }
+                    // Probes run alongside, so a slow probe cannot stretch the stall
+                    CompletableFuture<Void> probes = CompletableFuture.runAsync(() -> {
+                        sleep(500);
+                        for (int i = 0; i < PROBES; i++) {
+                            long probeStart = System.nanoTime();
+                            send(http, list, null);
+                            probeMillis.add((System.nanoTime() - probeStart) / 1_000_000);
+                        }
+                    }, clients);
+                    Thread.sleep(STALL.toMillis());
+                    locker.rollback();
+                    probes.join();
+                    CompletableFuture.allOf(stalled.toArray(CompletableFuture[]::new)).join();
+                }
+                long totalMillis = (System.nanoTime() - startedAt) / 1_000_000;
+                return new Result(probeMillis, ok.get(), failed.get(), totalMillis, threads.getPeakThreadCount());
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        // As arguments rather than default properties, so they win over application.yml
+        return new SpringApplicationBuilder(ManageMoneyApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                // Every list request must reach the database
+                "--app.responseCache.maxBytes=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--app.db.admission.enabled=" + virtualThreads,
+                "--app.db.admission.timeoutMs=30000");
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        jdbc.update("DELETE FROM expenses WHERE user_id = ?", USER_ID);
+        jdbc.update("DELETE FROM users WHERE id = ?", USER_ID);
+        jdbc.update("INSERT INTO users (id, email, password, full_name) VALUES (?, 'bench@test.dev', 'x', 'Bench')", USER_ID);
+        jdbc.update("INSERT INTO expenses (id, description, category, amount_minor, date, payment_mode, user_id) "
+                + "SELECT ? + g, 'expense ' || g, 'Food', g * 100, DATE '2024-01-01' + g % 300, 'cash', ? "
+                + "FROM generate_series(1, 200) g", USER_ID, USER_ID);
+    }
+
+    private static int send(HttpClient http, URI uri, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void report(String mode, Result result) {
+        List<Long> sorted = result.probeMillis().stream().sorted().toList();
+        System.out.printf("%-28s probe p50=%d ms max=%d ms | stalled requests ok=%d failed=%d in %d ms | peak threads=%d%n",
+                mode, sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1),
+                result.ok(), result.failed(), result.totalMillis(), result.peakThreads());
+    }
+
+    private record Result(List<Long> probeMillis, int ok, int failed, long totalMillis, int peakThreads) {
+    }
+}
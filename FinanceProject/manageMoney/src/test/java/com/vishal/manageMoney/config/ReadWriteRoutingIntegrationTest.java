@@ -0,0 +1,156 @@
+package com.vishal.manageMoney.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.vishal.manageMoney.dto.ExpenseRequestDTO;
+import com.vishal.manageMoney.dto.ExpenseResponseDTO;
+import com.vishal.manageMoney.security.AuthenticatedUser;
+import com.vishal.manageMoney.service.ExpenseService;
+import com.vishal.manageMoney.utils.Money;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Runs against two separate PostgreSQL instances; each holds a differently described expense,
+// so the description that comes back shows which database served the read
+@SpringBootTest(properties = "app.datasource.replica.readYourWritesMs=300")
+class ReadWriteRoutingIntegrationTest {
+
+    private static final long USER_ID = 1L;
+    // Well above anything the pooled id sequence hands out during the test
+    private static final long MARKER_EXPENSE_ID = 1_000_000L;
+
+    private static final EmbeddedPostgres primary;
+    private static final EmbeddedPostgres replica;
+
+    static {
+        try {
+            primary = EmbeddedPostgres.start();
+            replica = EmbeddedPostgres.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+        // A real replica gets its schema through replication; here it is migrated by hand
+        Flyway.configure().dataSource(replica.getPostgresDatabase()).load().migrate();
+    }
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> primary.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("app.datasource.replica.url", () -> replica.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @AfterAll
+    static void stopDatabases() throws Exception {
+        primary.close();
+        replica.close();
+    }
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate primaryJdbc = new JdbcTemplate(primary.getPostgresDatabase());
+    private final JdbcTemplate replicaJdbc = new JdbcTemplate(replica.getPostgresDatabase());
+
+    @BeforeEach
+    void seed() {
+        for (JdbcTemplate jdbc : List.of(primaryJdbc, replicaJdbc)) {
+            jdbc.update("DELETE FROM monthly_rollups");
+            jdbc.update("DELETE FROM search_postings");
+            jdbc.update("DELETE FROM search_vocabulary");
+            jdbc.update("DELETE FROM collection_versions");
+            jdbc.update("DELETE FROM expenses");
+            jdbc.update("DELETE FROM users");
+            jdbc.update("INSERT INTO users (id, email, password, full_name) VALUES (?, 'routing@test.dev', 'x', 'Routing')", USER_ID);
+        }
+        primaryJdbc.update("INSERT INTO expenses (id, description, category, amount_minor, date, payment_mode, user_id) "
+                + "VALUES (?, 'on-primary', 'Food', 1000, DATE '2024-01-01', 'cash', ?)", MARKER_EXPENSE_ID, USER_ID);
+        replicaJdbc.update("INSERT INTO expenses (id, description, category, amount_minor, date, payment_mode, user_id) "
+                + "VALUES (?, 'on-replica', 'Food', 1000, DATE '2024-01-01', 'cash', ?)", MARKER_EXPENSE_ID, USER_ID);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsAreServedByTheReplica() {
+        assertThat(descriptions()).containsExactly("on-replica");
+        assertThat(expenseService.getExpenseById(USER_ID, MARKER_EXPENSE_ID).orElseThrow().getDescription()).isEqualTo("on-replica");
+    }
+
+    @Test
+    void writesGoToThePrimary() {
+        expenseService.addExpense(USER_ID, expense("written"));
+
+        assertThat(primaryJdbc.queryForObject("SELECT count(*) FROM expenses WHERE description = 'written'", Long.class)).isEqualTo(1L);
+        assertThat(replicaJdbc.queryForObject("SELECT count(*) FROM expenses WHERE description = 'written'", Long.class)).isZero();
+    }
+
+    @Test
+    void usersReadTheirOwnWritesFromThePrimaryUntilTheWindowCloses() throws InterruptedException {
+        authenticate(USER_ID);
+        expenseService.addExpense(USER_ID, expense("written"));
+
+        assertThat(descriptions()).containsExactlyInAnyOrder("on-primary", "written");
+
+        // Someone else's reads are not pinned to the primary by this user's write
+        authenticate(USER_ID + 1);
+        assertThat(descriptions()).containsExactly("on-replica");
+
+        authenticate(USER_ID);
+        Thread.sleep(400);
+        assertThat(descriptions()).containsExactly("on-replica");
+    }
+
+    @Test
+    void eachPoolPublishesItsOwnMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge()).isNotNull();
+    }
+
+    private List<String> descriptions() {
+        return expenseService.getAllExpensesByUserId(USER_ID).stream()
+                .map(ExpenseResponseDTO::getDescription)
+                .toList();
+    }
+
+    private static void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@test.dev");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static ExpenseRequestDTO expense(String description) {
+        ExpenseRequestDTO request = new ExpenseRequestDTO();
+        request.setDescription(description);
+        request.setCategory("Food");
+        request.setAmount(Money.parse("5.00"));
+        request.setDate(LocalDate.of(2024, 2, 1));
+        request.setPaymentMode("cash");
+        return request;
+    }
+}
@@ -0,0 +1,220 @@
+package com.vishal.manageMoney.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishal.manageMoney.support.QueryCounter;
+import com.vishal.manageMoney.support.QueryCounts;
+import com.vishal.manageMoney.support.QueryCountingConfig;
+import com.vishal.manageMoney.utils.JwtUtils;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Statement budgets per endpoint. Every round trip a request makes is counted, by statement type and table,
+// including the monthly rollup, search index and collection version writes that ride along with each change; the
+// assertions are exact, so a change that adds a query fails here and one that removes a query lowers the budget.
+// Sequence reads are left out: the pooled optimizer takes one per 50 ids.
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Import(QueryCountingConfig.class)
+class EndpointQueryCountTest {
+
+    private static final EmbeddedPostgres postgres;
+
+    static {
+        try {
+            postgres = EmbeddedPostgres.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Long userId;
+    private String token;
+
+    @BeforeEach
+    void createUser() throws Exception {
+        String email = "queries-" + System.nanoTime() + "@example.com";
+        userId = jdbcTemplate.queryForObject("INSERT INTO users (email, password, full_name, created_at, updated_at) "
+                + "VALUES (?, 'x', 'Query Count', now(), now()) RETURNING id", Long.class, email);
+        token = jwtUtils.generateJwtToken(userId, email);
+        // One request before any measurement, so one-off first-request work (Hibernate's query plans and metadata,
+        // the pool's first connections, the verified-token cache) is not counted. The authentication filter itself
+        // issues no statements: app.auth.verifyUserExists is off, so it does no user lookup
+        mockMvc.perform(authorized(get("/api/dashboard/summary"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void createExpenseInsertsOneRowPerTable() throws Exception {
+        QueryCounts counts = queryCounter.measure(() -> mockMvc.perform(authorized(post("/api/expense"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("description", "Swiggy order", "category", "Food", "amount", 350,
+                        "date", "2024-03-10", "paymentMode", "upi"))))
+                .andExpect(status().isCreated()));
+
+        assertThat(counts.byTable()).as(counts.toString()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "INSERT expenses", 1L,
+                "INSERT monthly_rollups", 1L,
+                "INSERT search_postings", 1L,
+                "INSERT search_vocabulary", 1L,
+                "INSERT collection_versions", 1L));
+        assertThat(counts.entityLoads()).as(counts.toString()).isZero();
+    }
+
+    @Test
+    void listLoansIsOneSelectWhateverTheRowCount() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            createLoan("Car loan " + i);
+        }
+
+        QueryCounts cold = queryCounter.measure(() -> mockMvc.perform(
+                authorized(get("/api/loan/user/" + userId + "/all"))).andExpect(status().isOk()));
+
+        assertThat(cold.byTable()).as(cold.toString()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "SELECT collection_versions", 1L,
+                "SELECT loans", 1L));
+        assertThat(cold.rowsFetched("loans")).isEqualTo(5);
+        assertThat(cold.entityFetches()).as(cold.toString()).isZero();
+
+        // Served from the encoded-response cache: only the version is checked
+        QueryCounts warm = queryCounter.measure(() -> mockMvc.perform(
+                authorized(get("/api/loan/user/" + userId + "/all"))).andExpect(status().isOk()));
+
+        assertThat(warm.byTable()).as(warm.toString()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "SELECT collection_versions", 1L));
+    }
+
+    @Test
+    void updateExpenseLoadsOnceAndWritesOnce() throws Exception {
+        long id = createExpense("Uber ride to office");
+
+        QueryCounts counts = queryCounter.measure(() -> mockMvc.perform(authorized(put("/api/expense/" + id))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("description", "Ola auto", "amount", 180))))
+                .andExpect(status().isOk()));
+
+        assertThat(counts.byTable()).as(counts.toString()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "SELECT expenses", 1L,
+                "UPDATE expenses", 1L,
+                "INSERT monthly_rollups", 1L,
+                "DELETE search_postings", 1L,
+                "INSERT search_postings", 1L,
+                "INSERT search_vocabulary", 1L,
+                "INSERT collection_versions", 1L));
+        assertThat(counts.entityFetches()).as(counts.toString()).isZero();
+    }
+
+    @Test
+    void deleteIncomeLoadsOnceAndDeletesOnce() throws Exception {
+        long id = createIncome("Salary for march");
+
+        QueryCounts counts = queryCounter.measure(() -> mockMvc.perform(authorized(delete("/api/income/" + id)))
+                .andExpect(status().isOk()));
+
+        // The load is what the rollup and the search index need to undo the row; DELETE ... RETURNING could
+        // bring this to one statement on incomes
+        assertThat(counts.byTable()).as(counts.toString()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "SELECT incomes", 1L,
+                "DELETE incomes", 1L,
+                "INSERT monthly_rollups", 1L,
+                "DELETE search_postings", 1L,
+                "INSERT search_vocabulary", 1L,
+                "INSERT collection_versions", 1L));
+        assertThat(counts.entityFetches()).as(counts.toString()).isZero();
+    }
+
+    @Test
+    void dashboardSummaryReadsRollupsOnly() throws Exception {
+        createExpense("Swiggy order");
+        createIncome("Salary for march");
+
+        QueryCounts counts = queryCounter.measure(() -> mockMvc.perform(authorized(get("/api/dashboard/summary")))
+                .andExpect(status().isOk()));
+
+        assertThat(counts.byTable()).as(counts.toString()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "SELECT monthly_rollups", 6L,
+                "SELECT loans", 1L));
+    }
+
+    private long createExpense(String description) throws Exception {
+        return create("/api/expense", Map.of("description", description, "category", "Transport", "amount", 250,
+                "date", "2024-03-10", "paymentMode", "upi"));
+    }
+
+    private long createIncome(String description) throws Exception {
+        return create("/api/income", Map.of("source", "Acme Technologies", "description", description,
+                "category", "Salary", "amount", 85000, "date", "2024-03-01"));
+    }
+
+    private long createLoan(String description) throws Exception {
+        return create("/api/loan", Map.of("type", "Car", "lender", "ICICI Bank", "description", description,
+                "principal", 700000, "interestRate", 9.1, "emi", 14500, "startDate", "2023-01-01",
+                "endDate", "2028-01-01"));
+    }
+
+    private long create(String path, Map<String, Object> body) throws Exception {
+        String response = mockMvc.perform(authorized(post(path))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(body)))
+                // Income answers 200, the other kinds 201
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    private String json(Map<String, Object> body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
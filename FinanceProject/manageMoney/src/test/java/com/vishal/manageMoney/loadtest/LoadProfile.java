@@ -0,0 +1,25 @@
+package com.vishal.manageMoney.loadtest;
+
+import java.time.Duration;
+
+// Dataset size and workload shape for one load-test run. The defaults make a short smoke pass for the regular
+// build; every value can be overridden with a -Dload.* system property.
+record LoadProfile(int users, int expensesPerUser, int incomesPerUser, int investmentsPerUser, int loansPerUser,
+                   int workers, Duration duration, long seed) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.users", 4),
+                Integer.getInteger("load.expensesPerUser", 500),
+                Integer.getInteger("load.incomesPerUser", 60),
+                Integer.getInteger("load.investmentsPerUser", 60),
+                Integer.getInteger("load.loansPerUser", 3),
+                Integer.getInteger("load.workers", 8),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 5)),
+                Long.getLong("load.seed", 42));
+    }
+
+    int transactionsPerUser() {
+        return expensesPerUser + incomesPerUser + investmentsPerUser + loansPerUser;
+    }
+}
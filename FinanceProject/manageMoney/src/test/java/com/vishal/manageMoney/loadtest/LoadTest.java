@@ -0,0 +1,134 @@
+package com.vishal.manageMoney.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.vishal.manageMoney.service.RollupService;
+import com.vishal.manageMoney.service.SearchIndexService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// End-to-end load test: seeds synthetic users with a few years of history, then drives the mixed workload of
+// WorkloadDriver against the full application over HTTP and prints throughput and latency percentiles per endpoint.
+// Runs fully offline against an embedded PostgreSQL, or against a local one given -Dload.jdbcUrl (with
+// -Dload.dbUser and -Dload.dbPassword; the schema is migrated by Flyway as usual).
+//
+// The regular build runs a short smoke pass. Heavier runs and the soak are started by hand, e.g.
+//   mvn test -Dtest=LoadTest#mixedWorkload -Dload.users=50 -Dload.expensesPerUser=5000 -Dload.workers=32 \
+//       -Dload.durationSeconds=120
+//   mvn test -Dtest=LoadTest#soak -Dload.soakMinutes=60 -Dload.sampleSeconds=30
+// The soak samples heap, old generation after GC, connection pools and threads as it goes and fails if requests
+// start failing or the pool does not drain once the load stops.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        // The services log every write, which would swamp the report
+        "logging.level.com.vishal.manageMoney.service=WARN" })
+class LoadTest {
+
+    private static final String JDBC_URL = System.getProperty("load.jdbcUrl");
+    private static final EmbeddedPostgres postgres;
+
+    static {
+        try {
+            postgres = JDBC_URL == null ? EmbeddedPostgres.start() : null;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        if (postgres != null) {
+            registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+            registry.add("spring.datasource.username", () -> "postgres");
+            registry.add("spring.datasource.password", () -> "postgres");
+        } else {
+            registry.add("spring.datasource.url", () -> JDBC_URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("load.dbUser", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("load.dbPassword", "postgres"));
+        }
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        WorkloadDriver driver = new WorkloadDriver("http://localhost:" + port, seed(profile), profile.seed());
+
+        WorkloadDriver.Report report = driver.run(profile.workers(), profile.duration());
+        report.print(System.out);
+
+        assertThat(report.errorSamples()).isEmpty();
+        assertThat(report.errors()).isZero();
+        assertThat(report.operations()).allSatisfy((operation, count) -> assertThat(count).isPositive());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "load.soakMinutes", matches = "[1-9]\\d*")
+    void soak() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        WorkloadDriver driver = new WorkloadDriver("http://localhost:" + port, seed(profile), profile.seed());
+        Duration soak = Duration.ofMinutes(Long.getLong("load.soakMinutes"));
+
+        WorkloadDriver.Report report;
+        try (ResourceMonitor monitor = new ResourceMonitor(meterRegistry, driver::completedOperations)) {
+            monitor.start(Duration.ofSeconds(Long.getLong("load.sampleSeconds", 30)));
+            report = driver.run(profile.workers(), soak);
+            monitor.close();
+            // Connections still out once every request has answered would be leaks
+            Thread.sleep(1_000);
+            ResourceMonitor.Sample after = monitor.sample();
+            monitor.print(System.out);
+            report.print(System.out);
+
+            assertThat(after.poolActive()).as("connections still in use after the load").isZero();
+            assertThat(after.poolPending()).as("threads still waiting for a connection").isZero();
+        }
+        assertThat(report.errorSamples()).isEmpty();
+        assertThat(report.errors()).isZero();
+    }
+
+    private List<SyntheticDataGenerator.SeededUser> seed(LoadProfile profile) {
+        return new SyntheticDataGenerator(jdbcTemplate, passwordEncoder, rollupService, searchIndexService)
+                .generate(profile);
+    }
+}
@@ -0,0 +1,103 @@
+package com.vishal.manageMoney.loadtest;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Samples the server's memory and connection pools at a fixed interval while a soak runs. Heap in use swings with
+// every collection, so leaks are judged on the old generation as it stood right after the last GC, which only grows
+// when something keeps objects alive. Pool figures are summed over every Hikari pool (primary and replica).
+final class ResourceMonitor implements AutoCloseable {
+
+    private static final long MB = 1024 * 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier operations;
+    private final List<Sample> samples = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-test-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long startedAt;
+
+    ResourceMonitor(MeterRegistry meterRegistry, LongSupplier operations) {
+        this.meterRegistry = meterRegistry;
+        this.operations = operations;
+    }
+
+    record Sample(long second, long heapUsedMb, long oldGenAfterGcMb, int poolActive, int poolIdle, int poolPending,
+                  int poolTotal, int threads, long operations) {
+    }
+
+    void start(Duration interval) {
+        startedAt = System.nanoTime();
+        samples.add(sample());
+        scheduler.scheduleAtFixedRate(() -> samples.add(sample()), interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    Sample sample() {
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        return new Sample((System.nanoTime() - startedAt) / 1_000_000_000, heapUsed / MB, oldGenAfterGc() / MB,
+                pool("hikaricp.connections.active"), pool("hikaricp.connections.idle"),
+                pool("hikaricp.connections.pending"), pool("hikaricp.connections"),
+                ManagementFactory.getThreadMXBean().getThreadCount(), operations.getAsLong());
+    }
+
+    List<Sample> samples() {
+        return List.copyOf(samples);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    void print(PrintStream out) {
+        out.printf("%6s %9s %13s %7s %5s %8s %6s %8s %10s%n",
+                "second", "heap MB", "old@GC MB", "active", "idle", "pending", "total", "threads", "requests");
+        for (Sample s : samples) {
+            out.printf("%6d %9d %13d %7d %5d %8d %6d %8d %10d%n", s.second(), s.heapUsedMb(), s.oldGenAfterGcMb(),
+                    s.poolActive(), s.poolIdle(), s.poolPending(), s.poolTotal(), s.threads(), s.operations());
+        }
+        if (samples.size() < 3) {
+            return;
+        }
+        // The first sample is taken before any load, so growth is measured from the second one on
+        Sample first = samples.get(1);
+        Sample last = samples.get(samples.size() - 1);
+        out.printf("growth from second %d to %d: old gen after GC %+d MB, threads %+d, pool size %+d%n",
+                first.second(), last.second(), last.oldGenAfterGcMb() - first.oldGenAfterGcMb(),
+                last.threads() - first.threads(), last.poolTotal() - first.poolTotal());
+    }
+
+    // Old (or tenured) generation occupancy after the most recent collection, 0 until one has run
+    private static long oldGenAfterGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null
+                    && (pool.getName().contains("Old") || pool.getName().contains("Tenured"))) {
+                used += afterGc.getUsed();
+            }
+        }
+        return used;
+    }
+
+    private int pool(String gauge) {
+        return (int) meterRegistry.find(gauge).gauges().stream().mapToDouble(Gauge::value).sum();
+    }
+}
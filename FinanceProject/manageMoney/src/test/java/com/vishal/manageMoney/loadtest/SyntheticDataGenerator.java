@@ -0,0 +1,128 @@
+package com.vishal.manageMoney.loadtest;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.vishal.manageMoney.entity.RollupKind;
+import com.vishal.manageMoney.service.RollupService;
+import com.vishal.manageMoney.service.SearchIndexService;
+
+// Seeds users with years of history straight through JDBC batches, far faster than the API could, then rebuilds
+// the monthly rollups and the search index the application would otherwise have maintained write by write.
+// Ids come from the tables' pooled sequences one block of 50 per batch, exactly as Hibernate takes them, so rows
+// created later through the API never collide with seeded ones.
+class SyntheticDataGenerator {
+
+    static final String PASSWORD = "load-test-password";
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final int BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final RollupService rollupService;
+    private final SearchIndexService searchIndexService;
+
+    SyntheticDataGenerator(JdbcTemplate jdbc, PasswordEncoder passwordEncoder, RollupService rollupService,
+                           SearchIndexService searchIndexService) {
+        this.jdbc = jdbc;
+        this.passwordEncoder = passwordEncoder;
+        this.rollupService = rollupService;
+        this.searchIndexService = searchIndexService;
+    }
+
+    // A seeded user and the ids of the transactions created for them, by kind
+    record SeededUser(Long id, String email, Map<RollupKind, long[]> transactionIds) {
+    }
+
+    List<SeededUser> generate(LoadProfile profile) {
+        long startedAt = System.nanoTime();
+        Random random = new Random(profile.seed());
+        // Every user shares one password, so the hash is computed once
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        // Distinct emails on every run, so a local database can be reused
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        List<SeededUser> users = new ArrayList<>();
+        for (int i = 0; i < profile.users(); i++) {
+            String email = "load-" + run + "-" + i + "@example.com";
+            Long userId = jdbc.queryForObject("INSERT INTO users (email, password, full_name, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, now(), now()) RETURNING id", Long.class, email, passwordHash, "Load User " + i);
+
+            Map<RollupKind, long[]> ids = new EnumMap<>(RollupKind.class);
+            ids.put(RollupKind.EXPENSE, insert("expenses_seq",
+                    "INSERT INTO expenses (id, description, category, amount_minor, date, payment_mode, user_id) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    profile.expensesPerUser(), id -> {
+                        SyntheticTransactions.Expense e = SyntheticTransactions.expense(random);
+                        return new Object[] { id, e.description(), e.category(), e.amountMinor(),
+                                Date.valueOf(e.date()), e.paymentMode(), userId };
+                    }));
+            ids.put(RollupKind.INCOME, insert("incomes_seq",
+                    "INSERT INTO incomes (id, source, description, category, amount_minor, date, user_id) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    profile.incomesPerUser(), id -> {
+                        SyntheticTransactions.Income e = SyntheticTransactions.income(random);
+                        return new Object[] { id, e.source(), e.description(), e.category(), e.amountMinor(),
+                                Date.valueOf(e.date()), userId };
+                    }));
+            ids.put(RollupKind.INVESTMENT, insert("investments_seq",
+                    "INSERT INTO investments (id, type, institution, description, amount_minor, date, user_id) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    profile.investmentsPerUser(), id -> {
+                        SyntheticTransactions.Investment e = SyntheticTransactions.investment(random);
+                        return new Object[] { id, e.type(), e.institution(), e.description(), e.amountMinor(),
+                                Date.valueOf(e.date()), userId };
+                    }));
+            ids.put(RollupKind.LOAN, insert("loans_seq",
+                    "INSERT INTO loans (id, type, lender, description, principal_minor, interest_rate, emi_minor, "
+                            + "start_date, end_date, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    profile.loansPerUser(), id -> {
+                        SyntheticTransactions.Loan e = SyntheticTransactions.loan(random);
+                        return new Object[] { id, e.type(), e.lender(), e.description(), e.principalMinor(),
+                                e.interestRate(), e.emiMinor(), Date.valueOf(e.startDate()),
+                                Date.valueOf(e.endDate()), userId };
+                    }));
+
+            rollupService.rebuild(userId);
+            searchIndexService.rebuild(userId);
+            users.add(new SeededUser(userId, email, ids));
+        }
+
+        long rows = (long) profile.users() * profile.transactionsPerUser();
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        logger.info("Seeded {} users with {} transactions in {} ms ({} rows/s)",
+                profile.users(), rows, elapsedMs, rows * 1000 / elapsedMs);
+        return users;
+    }
+
+    // Inserts count rows in batches of one sequence block each and returns their ids
+    private long[] insert(String sequence, String sql, int count, Function<Long, Object[]> row) {
+        long[] ids = new long[count];
+        int done = 0;
+        while (done < count) {
+            // The pooled optimizer reads the top of a block: the block is (top - 50, top]
+            long top = jdbc.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+            int size = Math.min(BLOCK_SIZE, count - done);
+            List<Object[]> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                long id = top - BLOCK_SIZE + 1 + i;
+                ids[done + i] = id;
+                batch.add(row.apply(id));
+            }
+            jdbc.batchUpdate(sql, batch);
+            done += size;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,197 @@
+package com.vishal.manageMoney.loadtest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.vishal.manageMoney.entity.RollupKind;
+
+// Plausible transactions for one household: a few frequent, cheap expense categories and some rare, expensive
+// ones, amounts spread log-normally around a typical value, a monthly salary, SIPs and a couple of loans.
+// Used both for the seeded history and for the bodies the workload posts.
+final class SyntheticTransactions {
+
+    // Seeded history reaches three years back; nothing is dated in the future
+    static final int HISTORY_DAYS = 3 * 365;
+
+    private record Category(String name, int weight, long typicalRupees, String[] descriptions) {
+    }
+
+    private static final Category[] EXPENSE_CATEGORIES = {
+            new Category("Food", 30, 350, new String[] { "Swiggy order", "Zomato dinner with friends",
+                    "Office canteen lunch", "Cafe Coffee Day", "Domino's pizza" }),
+            new Category("Groceries", 15, 1200, new String[] { "BigBasket groceries", "DMart monthly shopping",
+                    "Vegetable market", "Blinkit essentials" }),
+            new Category("Transport", 15, 250, new String[] { "Uber ride to office", "Ola auto", "Metro card recharge",
+                    "Petrol at HP pump", "Rapido bike taxi" }),
+            new Category("Bills", 8, 1800, new String[] { "Electricity bill", "Airtel broadband", "Jio recharge",
+                    "Water bill", "Gas cylinder refill" }),
+            new Category("Shopping", 10, 2500, new String[] { "Amazon order", "Flipkart order", "Myntra clothes",
+                    "Decathlon shoes" }),
+            new Category("Entertainment", 7, 600, new String[] { "Netflix subscription", "BookMyShow movie tickets",
+                    "Spotify premium" }),
+            new Category("Health", 5, 900, new String[] { "Apollo pharmacy", "Doctor consultation", "Lab tests" }),
+            new Category("Travel", 4, 6000, new String[] { "IRCTC train tickets", "IndiGo flight", "Hotel booking" }),
+            new Category("Education", 3, 3000, new String[] { "Udemy course", "Books from Amazon" }),
+            new Category("Rent", 3, 18000, new String[] { "Rent for the flat" }),
+    };
+    private static final int EXPENSE_WEIGHT = totalWeight(EXPENSE_CATEGORIES);
+    private static final String[] PAYMENT_MODES = { "upi", "upi", "upi", "upi", "upi", "card", "card", "card",
+            "cash", "netbanking" };
+
+    private static final String[] INVESTMENT_TYPES = { "Mutual Fund SIP", "Mutual Fund SIP", "Stocks",
+            "Fixed Deposit", "PPF", "Gold" };
+    private static final String[] INSTITUTIONS = { "Zerodha", "Groww", "HDFC Bank", "SBI", "ICICI Prudential AMC" };
+
+    private record LoanType(String name, long typicalPrincipalRupees, double rate, int years, String[] lenders) {
+    }
+
+    private static final LoanType[] LOAN_TYPES = {
+            new LoanType("Home", 3_500_000, 8.4, 20, new String[] { "SBI", "HDFC Bank", "LIC Housing Finance" }),
+            new LoanType("Car", 700_000, 9.1, 5, new String[] { "ICICI Bank", "Axis Bank" }),
+            new LoanType("Personal", 300_000, 12.5, 3, new String[] { "Bajaj Finserv", "HDFC Bank" }),
+            new LoanType("Education", 1_000_000, 10.0, 7, new String[] { "SBI", "Bank of Baroda" }),
+    };
+
+    record Expense(String description, String category, long amountMinor, LocalDate date, String paymentMode) {
+    }
+
+    record Income(String source, String description, String category, long amountMinor, LocalDate date) {
+    }
+
+    record Investment(String type, String institution, String description, long amountMinor, LocalDate date) {
+    }
+
+    record Loan(String type, String lender, String description, long principalMinor, double interestRate,
+                long emiMinor, LocalDate startDate, LocalDate endDate) {
+    }
+
+    private SyntheticTransactions() {
+    }
+
+    static Expense expense(Random random) {
+        int pick = random.nextInt(EXPENSE_WEIGHT);
+        Category category = EXPENSE_CATEGORIES[0];
+        for (Category candidate : EXPENSE_CATEGORIES) {
+            if (pick < candidate.weight()) {
+                category = candidate;
+                break;
+            }
+            pick -= candidate.weight();
+        }
+        String description = oneOf(random, category.descriptions());
+        return new Expense(description, category.name(), amount(random, category.typicalRupees()), pastDate(random),
+                oneOf(random, PAYMENT_MODES));
+    }
+
+    static Income income(Random random) {
+        int kind = random.nextInt(10);
+        if (kind < 7) {
+            // Salary lands on the first of a month
+            LocalDate month = pastDate(random).withDayOfMonth(1);
+            return new Income("Acme Technologies", "Salary for " + month.getMonth().toString().toLowerCase(),
+                    "Salary", amount(random, 85_000, 0.1), month);
+        }
+        if (kind < 9) {
+            return new Income("Upwork client", "Freelance project payment", "Freelance",
+                    amount(random, 15_000), pastDate(random));
+        }
+        return new Income("HDFC savings account", "Quarterly interest credit", "Interest",
+                amount(random, 2_000), pastDate(random));
+    }
+
+    static Investment investment(Random random) {
+        String type = oneOf(random, INVESTMENT_TYPES);
+        long typical = type.equals("Fixed Deposit") ? 50_000 : 5_000;
+        return new Investment(type, oneOf(random, INSTITUTIONS), type + " instalment", amount(random, typical),
+                pastDate(random));
+    }
+
+    static Loan loan(Random random) {
+        LoanType type = LOAN_TYPES[random.nextInt(LOAN_TYPES.length)];
+        long principalMinor = amount(random, type.typicalPrincipalRupees(), 0.3);
+        double rate = Math.round((type.rate() + random.nextDouble() - 0.5) * 100) / 100.0;
+        // Standard reducing-balance EMI
+        double monthlyRate = rate / 12 / 100;
+        double growth = Math.pow(1 + monthlyRate, type.years() * 12);
+        long emiMinor = Math.round(principalMinor * monthlyRate * growth / (growth - 1));
+        LocalDate start = LocalDate.now().minusDays(random.nextInt(5 * 365)).withDayOfMonth(1);
+        return new Loan(type.name(), oneOf(random, type.lenders()), type.name() + " loan", principalMinor, rate,
+                emiMinor, start, start.plusYears(type.years()));
+    }
+
+    // The JSON body the create and update endpoints take for a new transaction of this kind
+    static Map<String, Object> requestBody(RollupKind kind, Random random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        switch (kind) {
+            case EXPENSE -> {
+                Expense expense = expense(random);
+                body.put("description", expense.description());
+                body.put("category", expense.category());
+                body.put("amount", rupees(expense.amountMinor()));
+                body.put("date", expense.date().toString());
+                body.put("paymentMode", expense.paymentMode());
+            }
+            case INCOME -> {
+                Income income = income(random);
+                body.put("source", income.source());
+                body.put("description", income.description());
+                body.put("category", income.category());
+                body.put("amount", rupees(income.amountMinor()));
+                body.put("date", income.date().toString());
+            }
+            case INVESTMENT -> {
+                Investment investment = investment(random);
+                body.put("type", investment.type());
+                body.put("institution", investment.institution());
+                body.put("description", investment.description());
+                body.put("amount", rupees(investment.amountMinor()));
+                body.put("date", investment.date().toString());
+            }
+            case LOAN -> {
+                Loan loan = loan(random);
+                body.put("type", loan.type());
+                body.put("lender", loan.lender());
+                body.put("description", loan.description());
+                body.put("principal", rupees(loan.principalMinor()));
+                body.put("interestRate", loan.interestRate());
+                body.put("emi", rupees(loan.emiMinor()));
+                body.put("startDate", loan.startDate().toString());
+                body.put("endDate", loan.endDate().toString());
+            }
+        }
+        return body;
+    }
+
+    private static long amount(Random random, long typicalRupees) {
+        return amount(random, typicalRupees, 0.6);
+    }
+
+    // Log-normal around the typical amount, never below ten rupees
+    private static long amount(Random random, long typicalRupees, double spread) {
+        double rupees = typicalRupees * Math.exp(spread * random.nextGaussian());
+        return Math.max(1_000, Math.round(rupees * 100));
+    }
+
+    private static LocalDate pastDate(Random random) {
+        return LocalDate.now().minusDays(random.nextInt(HISTORY_DAYS));
+    }
+
+    private static BigDecimal rupees(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+
+    private static String oneOf(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int totalWeight(Category[] categories) {
+        int total = 0;
+        for (Category category : categories) {
+            total += category.weight();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,271 @@
+package com.vishal.manageMoney.loadtest;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishal.manageMoney.entity.RollupKind;
+
+// Drives a mix of what the frontend does against a running server: logging in, opening the dashboard, listing a
+// kind of transaction, and adding, editing and removing transactions. Every request is timed per endpoint, with the
+// path's ids replaced by placeholders, so the report shows throughput and latency percentiles per route.
+final class WorkloadDriver {
+
+    // Share of each operation in the mix, out of 100
+    enum Operation {
+        LOGIN(5), DASHBOARD(20), LIST(30), CREATE(20), UPDATE(15), DELETE(10);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = 100;
+    private static final int ERROR_SAMPLES = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final List<SyntheticDataGenerator.SeededUser> users;
+    private final long seed;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicReferenceArray<String> tokens;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final Map<Operation, LongAdder> operations = new EnumMap<>(Operation.class);
+    private final LongAdder completed = new LongAdder();
+    private final ConcurrentLinkedQueue<String> errorSamples = new ConcurrentLinkedQueue<>();
+
+    WorkloadDriver(String baseUrl, List<SyntheticDataGenerator.SeededUser> users, long seed) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.seed = seed;
+        this.tokens = new AtomicReferenceArray<>(users.size());
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new LongAdder());
+        }
+    }
+
+    // Requests finished so far, successful or not; read by the resource monitor while a run is going
+    long completedOperations() {
+        return completed.sum();
+    }
+
+    // Logs every user in, then keeps the given number of workers busy until the duration is up
+    Report run(int workers, Duration duration) throws Exception {
+        for (int i = 0; i < users.size(); i++) {
+            login(i);
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                Random random = new Random(seed + w);
+                running.add(pool.submit(() -> work(random, deadline)));
+            }
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return report(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private void work(Random random, long deadline) {
+        // Only transactions this worker created are deleted, so workers never race on a row's existence
+        Deque<Created> created = new ArrayDeque<>();
+        while (System.nanoTime() < deadline) {
+            int userIndex = random.nextInt(users.size());
+            SyntheticDataGenerator.SeededUser user = users.get(userIndex);
+            RollupKind kind = RollupKind.values()[random.nextInt(RollupKind.values().length)];
+            Operation operation = pick(random);
+            if (operation == Operation.DELETE && created.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+            operations.get(operation).increment();
+
+            switch (operation) {
+                case LOGIN -> login(userIndex);
+                case DASHBOARD -> send(userIndex, "GET", "/api/dashboard/summary", "/api/dashboard/summary", null);
+                case LIST -> send(userIndex, "GET", "/api/" + path(kind) + "/user/" + user.id() + "/all",
+                        "/api/" + path(kind) + "/user/{id}/all", null);
+                case CREATE -> {
+                    JsonNode body = send(userIndex, "POST", "/api/" + path(kind), "/api/" + path(kind),
+                            SyntheticTransactions.requestBody(kind, random));
+                    if (body != null && body.hasNonNull("id")) {
+                        created.push(new Created(userIndex, kind, body.get("id").asLong()));
+                    }
+                }
+                case UPDATE -> {
+                    long[] ids = user.transactionIds().get(kind);
+                    long id = ids[random.nextInt(ids.length)];
+                    send(userIndex, "PUT", "/api/" + path(kind) + "/" + id, "/api/" + path(kind) + "/{id}",
+                            SyntheticTransactions.requestBody(kind, random));
+                }
+                case DELETE -> {
+                    Created victim = created.pop();
+                    send(victim.userIndex(), "DELETE", "/api/" + path(victim.kind()) + "/" + victim.id(),
+                            "/api/" + path(victim.kind()) + "/{id}", null);
+                }
+            }
+        }
+    }
+
+    private void login(int userIndex) {
+        Map<String, Object> credentials = Map.of("email", users.get(userIndex).email(),
+                "password", SyntheticDataGenerator.PASSWORD);
+        JsonNode response = send(-1, "POST", "/api/auth/login", "/api/auth/login", credentials);
+        if (response != null && response.hasNonNull("token")) {
+            tokens.set(userIndex, response.get("token").asText());
+        }
+    }
+
+    // Sends one request and records it under the endpoint's label; answers the parsed body of a 2xx JSON response
+    private JsonNode send(int userIndex, String method, String path, String template, Object body) {
+        EndpointStats stats = endpoints.computeIfAbsent(method + " " + template, label -> new EndpointStats());
+        long startedAt = System.nanoTime();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+            if (userIndex >= 0) {
+                request.header("Authorization", "Bearer " + tokens.get(userIndex));
+            }
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            stats.latencyMicros.recordValue((System.nanoTime() - startedAt) / 1_000);
+            if (response.statusCode() / 100 != 2) {
+                error(stats, method + " " + path + " -> " + response.statusCode() + " "
+                        + abbreviate(new String(response.body())));
+                return null;
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            return contentType.contains("json") ? objectMapper.readTree(response.body()) : null;
+        } catch (Exception e) {
+            stats.latencyMicros.recordValue((System.nanoTime() - startedAt) / 1_000);
+            error(stats, method + " " + path + " -> " + e);
+            return null;
+        } finally {
+            completed.increment();
+        }
+    }
+
+    private void error(EndpointStats stats, String description) {
+        stats.errors.increment();
+        if (errorSamples.size() < ERROR_SAMPLES) {
+            errorSamples.add(description);
+        }
+    }
+
+    private static Operation pick(Random random) {
+        int pick = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : Operation.values()) {
+            if (pick < operation.weight) {
+                return operation;
+            }
+            pick -= operation.weight;
+        }
+        return Operation.LIST;
+    }
+
+    private static String path(RollupKind kind) {
+        return kind.name().toLowerCase();
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() > 200 ? text.substring(0, 200) + "..." : text;
+    }
+
+    private Report report(Duration elapsed) {
+        Map<String, EndpointReport> byEndpoint = new TreeMap<>();
+        endpoints.forEach((label, stats) -> byEndpoint.put(label,
+                new EndpointReport(stats.latencyMicros.copy(), stats.errors.sum())));
+        Map<Operation, Long> counts = new EnumMap<>(Operation.class);
+        operations.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return new Report(elapsed, byEndpoint, counts, List.copyOf(errorSamples));
+    }
+
+    private record Created(int userIndex, RollupKind kind, long id) {
+    }
+
+    private static final class EndpointStats {
+        // Microseconds, auto-resizing so a stalled request cannot overflow it
+        private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    record EndpointReport(Histogram latencyMicros, long errors) {
+
+        long count() {
+            return latencyMicros.getTotalCount();
+        }
+    }
+
+    record Report(Duration elapsed, Map<String, EndpointReport> endpoints, Map<Operation, Long> operations,
+                  List<String> errorSamples) {
+
+        long requests() {
+            return endpoints.values().stream().mapToLong(EndpointReport::count).sum();
+        }
+
+        long errors() {
+            return endpoints.values().stream().mapToLong(EndpointReport::errors).sum();
+        }
+
+        void print(PrintStream out) {
+            double seconds = elapsed.toNanos() / 1e9;
+            out.printf("%-40s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                    "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            Histogram all = new Histogram(3);
+            endpoints.forEach((label, endpoint) -> {
+                all.add(endpoint.latencyMicros());
+                line(out, label, endpoint.latencyMicros(), endpoint.errors(), seconds);
+            });
+            line(out, "all", all, errors(), seconds);
+            out.printf("%d requests in %.1f s, operation mix %s%n", requests(), seconds, operations);
+            errorSamples.forEach(sample -> out.println("  error: " + sample));
+        }
+
+        private static void line(PrintStream out, String label, Histogram latency, long errors, double seconds) {
+            out.printf("%-40s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", label, latency.getTotalCount(), errors,
+                    latency.getTotalCount() / seconds, millis(latency, 50), millis(latency, 90), millis(latency, 99),
+                    millis(latency, 99.9), latency.getMaxValue() / 1_000.0);
+        }
+
+        private static double millis(Histogram latency, double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.vishal.manageMoney.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.vishal.manageMoney.repository.SearchIndexRepository.VocabularyTerm;
+
+class SearchServiceTest {
+
+    @Test
+    void weighsExactThenPrefixThenTypoMatches() {
+        Map<String, Double> expansion = SearchService.expand("rent", List.of(
+                new VocabularyTerm("rental", 1), new VocabularyTerm("rant", 1), new VocabularyTerm("rent", 1),
+                new VocabularyTerm("ernt", 1), new VocabularyTerm("road", 1)));
+
+        // A term in a single transaction has rarity 1, so the weights are the bare match weights
+        assertThat(expansion).containsExactly(
+                Map.entry("rent", 1.0), Map.entry("rental", 0.7), Map.entry("rant", 0.45), Map.entry("ernt", 0.45));
+    }
+
+    @Test
+    void allowsNoTyposBelowFourLettersAndTwoFromEight() {
+        List<VocabularyTerm> shortWords = List.of(new VocabularyTerm("tea", 1), new VocabularyTerm("tee", 1),
+                new VocabularyTerm("teas", 1));
+        assertThat(SearchService.expand("tea", shortWords)).containsOnlyKeys("tea", "teas");
+
+        List<VocabularyTerm> midWords = List.of(new VocabularyTerm("fule", 1), new VocabularyTerm("fill", 1));
+        assertThat(SearchService.expand("fuel", midWords)).containsOnlyKeys("fule");
+
+        Map<String, Double> longWords = SearchService.expand("grocerie", List.of(
+                new VocabularyTerm("groceries", 1), new VocabularyTerm("grocery", 1), new VocabularyTerm("gorcrey", 1),
+                new VocabularyTerm("gorcreyy", 1)));
+        assertThat(longWords).containsEntry("groceries", 0.7).containsEntry("grocery", 0.3)
+                .doesNotContainKey("gorcreyy");
+    }
+
+    @Test
+    void letsAnExactMatchOnACommonTermOutrankATypoOnARareOne() {
+        Map<String, Double> expansion = SearchService.expand("fuel", List.of(
+                new VocabularyTerm("fuel", 10_000), new VocabularyTerm("fuels", 1_000), new VocabularyTerm("fual", 1)));
+
+        assertThat(expansion.keySet()).containsExactly("fuel", "fuels", "fual");
+        assertThat(expansion.get("fuel")).isCloseTo(1.0 * (0.6 + 0.4 / (1 + Math.log(10_000))), within(1e-12));
+        assertThat(expansion.get("fuel")).isGreaterThan(0.6).isLessThan(0.7);
+        assertThat(expansion.get("fual")).isEqualTo(0.45);
+    }
+
+    @Test
+    void keepsTheFiftyBestExpansions() {
+        List<VocabularyTerm> vocabulary = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            vocabulary.add(new VocabularyTerm("bill" + i, 1));
+        }
+        vocabulary.add(new VocabularyTerm("bill", 1));
+
+        Map<String, Double> expansion = SearchService.expand("bill", vocabulary);
+
+        assertThat(expansion).hasSize(50);
+        assertThat(expansion.keySet().iterator().next()).isEqualTo("bill");
+    }
+
+    @Test
+    void matchesNothingInAnEmptyVocabulary() {
+        assertThat(SearchService.expand("salary", List.of())).isEmpty();
+    }
+}
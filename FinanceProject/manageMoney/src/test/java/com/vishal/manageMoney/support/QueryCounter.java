@@ -0,0 +1,74 @@
+package com.vishal.manageMoney.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Records the statements the calling thread sends through QueryCountingDataSource while a block runs. Only that
+// thread is recorded, so scheduled jobs or other requests running meanwhile never leak into a measurement; with
+// MockMvc the whole request, filters included, runs on the test's thread.
+public class QueryCounter {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final List<Statement> statements = new ArrayList<>();
+    private volatile Thread recordingThread;
+
+    // The factory is looked up on first use: it is built on top of the DataSource this counter is wired into
+    public QueryCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public QueryCounts measure(Action action) throws Exception {
+        Statistics statistics = entityManagerFactory.getObject().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statements.clear();
+        statistics.clear();
+        recordingThread = Thread.currentThread();
+        try {
+            action.run();
+        } finally {
+            recordingThread = null;
+        }
+        List<QueryCounts.RecordedStatement> recorded = statements.stream()
+                .map(statement -> new QueryCounts.RecordedStatement(StatementType.of(statement.sql),
+                        StatementType.tableOf(statement.sql), statement.sql, statement.batchSize, statement.rows))
+                .toList();
+        return new QueryCounts(recorded, statistics.getEntityLoadCount(), statistics.getEntityFetchCount(),
+                statistics.getCollectionFetchCount());
+    }
+
+    // Called for every round trip; answers null when this thread is not being measured
+    Statement record(String sql, int batchSize) {
+        if (Thread.currentThread() != recordingThread) {
+            return null;
+        }
+        Statement statement = new Statement(sql, batchSize);
+        statements.add(statement);
+        return statement;
+    }
+
+    static final class Statement {
+        private final String sql;
+        private final int batchSize;
+        private long rows;
+
+        private Statement(String sql, int batchSize) {
+            this.sql = sql;
+            this.batchSize = batchSize;
+        }
+
+        void rowFetched() {
+            rows++;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.vishal.manageMoney.support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Import into a @SpringBootTest to measure statements with QueryCounter. Wraps the application's DataSource bean,
+// the one Hibernate and the JdbcTemplates both use, whichever configuration (plain, admission-controlled or
+// read/write routing) built it.
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfig {
+
+    @Bean
+    static QueryCounter queryCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new QueryCounter(entityManagerFactory);
+    }
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<QueryCounter> queryCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (beanName.equals("dataSource") && bean instanceof DataSource dataSource) {
+                    return new QueryCountingDataSource(dataSource, queryCounter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
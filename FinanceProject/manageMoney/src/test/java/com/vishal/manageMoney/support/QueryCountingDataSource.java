@@ -0,0 +1,146 @@
+package com.vishal.manageMoney.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Hands out connections whose statements report each execution to a QueryCounter, below both Hibernate and the
+// JdbcTemplate repositories, so a count covers everything a request sends. A JDBC batch is one round trip; the
+// rows a query returns are counted as the caller reads them.
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final Set<String> EXECUTE_BATCH = Set.of("executeBatch", "executeLargeBatch");
+
+    private final QueryCounter counter;
+
+    public QueryCountingDataSource(DataSource target, QueryCounter counter) {
+        super(target);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private Connection counting(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return counting(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return counting(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return counting(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S counting(Class<S> type, S statement, String preparedSql) {
+        // SQL added to a plain Statement's batch; a prepared statement's batch repeats preparedSql
+        List<String> batch = new ArrayList<>();
+        int[] preparedBatch = { 0 };
+        QueryCounter.Statement[] last = { null };
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                if (args == null) {
+                    preparedBatch[0]++;
+                } else {
+                    batch.add((String) args[0]);
+                }
+            } else if (name.equals("clearBatch")) {
+                batch.clear();
+                preparedBatch[0] = 0;
+            }
+            if (EXECUTE_BATCH.contains(name)) {
+                String sql = preparedSql != null ? preparedSql : String.join(";\n", batch);
+                int size = preparedSql != null ? preparedBatch[0] : batch.size();
+                batch.clear();
+                preparedBatch[0] = 0;
+                counter.record(sql, size);
+                return invoke(target, method, args);
+            }
+            if (EXECUTE.contains(name)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String direct ? direct : preparedSql;
+                last[0] = counter.record(sql, 1);
+                Object result = invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? counting(resultSet, last[0]) : result;
+            }
+            Object result = invoke(target, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet) {
+                return counting(resultSet, last[0]);
+            }
+            return result;
+        });
+    }
+
+    private ResultSet counting(ResultSet resultSet, QueryCounter.Statement statement) {
+        if (statement == null) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                statement.rowFetched();
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            // Identity semantics, so Hibernate can track the proxies in its resource registry
+            if (method.getName().equals("equals") && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            // Unwrapping hands back the driver's own object, which Hibernate only uses for vendor extensions
+            if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                return invoke(target, method, args);
+            }
+            return handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.vishal.manageMoney.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// What one measured block sent to the database: every JDBC round trip in order, whether Hibernate or a JdbcTemplate
+// issued it, plus Hibernate's own entity counters. Entity fetches are lazy loads triggered by navigating an
+// association, the usual sign of an N+1.
+public record QueryCounts(List<RecordedStatement> statements, long entityLoads, long entityFetches,
+                          long collectionFetches) {
+
+    // One round trip; a JDBC batch counts once, however many rows it carries
+    public record RecordedStatement(StatementType type, String table, String sql, int batchSize, long rowsFetched) {
+    }
+
+    // Round trips per "TYPE table", e.g. "INSERT expenses" -> 1, leaving out sequence reads
+    public Map<String, Long> byTable() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (RecordedStatement statement : statements) {
+            if (statement.type() != StatementType.SEQUENCE) {
+                counts.merge(statement.type() + " " + statement.table(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    // Round trips, leaving out sequence reads
+    public long total() {
+        return statements.stream().filter(statement -> statement.type() != StatementType.SEQUENCE).count();
+    }
+
+    public long count(StatementType type, String table) {
+        return statements.stream()
+                .filter(statement -> statement.type() == type && statement.table().equals(table))
+                .count();
+    }
+
+    // Rows read back from the result sets of statements on one table, RETURNING clauses included
+    public long rowsFetched(String table) {
+        return statements.stream()
+                .filter(statement -> statement.table().equals(table))
+                .mapToLong(RecordedStatement::rowsFetched)
+                .sum();
+    }
+
+    // Every statement on its own line, for assertion messages
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(total() + " round trips (entity loads " + entityLoads
+                + ", lazy fetches " + entityFetches + ", collection fetches " + collectionFetches + ")");
+        for (RecordedStatement statement : statements) {
+            out.append("\n  ").append(statement.type()).append(' ').append(statement.table());
+            if (statement.batchSize() > 1) {
+                out.append(" x").append(statement.batchSize());
+            }
+            out.append(": ").append(statement.sql().replaceAll("\\s+", " "));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.vishal.manageMoney.support;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Kind of SQL statement, read off its leading keyword. Sequence reads are kept apart from selects: the pooled
+// optimizer takes 50 ids per nextval, so whether a given insert pays for one depends on what ran before it.
+public enum StatementType {
+    SELECT, INSERT, UPDATE, DELETE, SEQUENCE, OTHER;
+
+    // A "from" followed by a column, as in extract(year from r.month_start), is not a table
+    private static final Pattern TABLE = Pattern.compile(
+            "^(?:insert\\s+into|update|delete\\s+from)\\s+([a-z_][a-z0-9_]*)|\\sfrom\\s+([a-z_][a-z0-9_]*)(?![.\\w])");
+
+    static StatementType of(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.contains("nextval(")) {
+            return SEQUENCE;
+        }
+        for (StatementType type : values()) {
+            if (statement.startsWith(type.name().toLowerCase(Locale.ROOT))) {
+                return type;
+            }
+        }
+        return OTHER;
+    }
+
+    // The table a statement writes, or the first one it reads from; "?" when there is none
+    static String tableOf(String sql) {
+        Matcher matcher = TABLE.matcher(sql.stripLeading().toLowerCase(Locale.ROOT));
+        if (!matcher.find()) {
+            return "?";
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+}
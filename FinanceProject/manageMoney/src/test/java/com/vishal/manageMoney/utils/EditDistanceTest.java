@@ -0,0 +1,49 @@
+package com.vishal.manageMoney.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class EditDistanceTest {
+
+    @Test
+    void countsInsertionsDeletionsAndSubstitutions() {
+        assertThat(EditDistance.within("grocery", "grocery", 2)).isZero();
+        assertThat(EditDistance.within("grocery", "grocerry", 2)).isEqualTo(1);
+        assertThat(EditDistance.within("grocery", "grocer", 2)).isEqualTo(1);
+        assertThat(EditDistance.within("grocery", "grocary", 2)).isEqualTo(1);
+        assertThat(EditDistance.within("kitten", "sitting", 3)).isEqualTo(3);
+    }
+
+    @Test
+    void countsAnAdjacentTranspositionAsOneEdit() {
+        assertThat(EditDistance.within("salary", "slaary", 2)).isEqualTo(1);
+        assertThat(EditDistance.within("ab", "ba", 1)).isEqualTo(1);
+        // Optimal string alignment: a transposed pair cannot be edited again, so this is 3 rather than 2
+        assertThat(EditDistance.within("ca", "abc", 3)).isEqualTo(3);
+    }
+
+    @Test
+    void reportsMaxPlusOneBeyondTheBound() {
+        assertThat(EditDistance.within("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(EditDistance.within("rent", "rant", 0)).isEqualTo(1);
+        assertThat(EditDistance.within("abcdef", "ghijkl", 1)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsOnLengthAloneWhenTheGapExceedsTheBound() {
+        assertThat(EditDistance.within("fuel", "fuelstation", 2)).isEqualTo(3);
+        assertThat(EditDistance.within("", "abc", 2)).isEqualTo(3);
+        assertThat(EditDistance.within("", "ab", 2)).isEqualTo(2);
+    }
+
+    @Test
+    void isSymmetric() {
+        String[] words = { "electricity", "electrcity", "eletcricity", "elecricty", "eclectic" };
+        for (String a : words) {
+            for (String b : words) {
+                assertThat(EditDistance.within(a, b, 2)).as(a + " / " + b).isEqualTo(EditDistance.within(b, a, 2));
+            }
+        }
+    }
+}
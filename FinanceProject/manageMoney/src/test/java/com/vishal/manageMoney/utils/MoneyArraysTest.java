@@ -0,0 +1,56 @@
+package com.vishal.manageMoney.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyArraysTest {
+
+    @Test
+    void sumsExactlyAndRejectsOverflow() {
+        assertThat(MoneyArrays.sum(new long[0])).isZero();
+        assertThat(MoneyArrays.sum(new long[] { 1_050, -50, 2_000_00 })).isEqualTo(201_000);
+        assertThatThrownBy(() -> MoneyArrays.sum(new long[] { Long.MAX_VALUE, 1 }))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void ordersEmptyAndSingleAmounts() {
+        assertThat(MoneyArrays.descendingOrder(new long[0])).isEmpty();
+        assertThat(MoneyArrays.descendingOrder(new long[] { 7 })).containsExactly(0);
+    }
+
+    @Test
+    void ordersOddLengthsLargestFirst() {
+        assertThat(MoneyArrays.descendingOrder(new long[] { 3, 9, 1 })).containsExactly(1, 0, 2);
+        assertThat(MoneyArrays.descendingOrder(new long[] { 5, -2, 40, 0, 17 })).containsExactly(2, 4, 0, 3, 1);
+    }
+
+    @Test
+    void keepsEqualAmountsInTheirOriginalOrder() {
+        // Ties straddle the merge boundaries of every pass
+        assertThat(MoneyArrays.descendingOrder(new long[] { 4, 8, 4, 8, 4, 8, 4 }))
+                .containsExactly(1, 3, 5, 0, 2, 4, 6);
+    }
+
+    @Test
+    void matchesAStableSortForEveryLengthUpToSixtyFive() {
+        Random random = new Random(42);
+        for (int length = 0; length <= 65; length++) {
+            // Few distinct values, so most lengths have plenty of ties
+            long[] amounts = random.longs(length, 0, 5).toArray();
+            int[] expected = IntStream.range(0, length).boxed()
+                    .sorted(Comparator.comparingLong((Integer i) -> amounts[i]).reversed())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            assertThat(MoneyArrays.descendingOrder(amounts)).as(Arrays.toString(amounts)).containsExactly(expected);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.vishal.manageMoney.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void roundsHalfUpToWholePaise() {
+        assertThat(Money.of(new BigDecimal("10.005")).getMinorUnits()).isEqualTo(1_001);
+        assertThat(Money.of(new BigDecimal("10.0049")).getMinorUnits()).isEqualTo(1_000);
+        assertThat(Money.of(new BigDecimal("0.015")).getMinorUnits()).isEqualTo(2);
+        // Half-up rounds away from zero, so negative amounts mirror positive ones
+        assertThat(Money.of(new BigDecimal("-10.005")).getMinorUnits()).isEqualTo(-1_001);
+        assertThat(Money.of(new BigDecimal("-0.004")).getMinorUnits()).isZero();
+    }
+
+    @Test
+    void keepsWholeAmountsAndScalesShortOnes() {
+        assertThat(Money.of(new BigDecimal("1250.50")).getMinorUnits()).isEqualTo(125_050);
+        assertThat(Money.of(new BigDecimal("7")).getMinorUnits()).isEqualTo(700);
+        assertThat(Money.parse(" 1E+3 ").getMinorUnits()).isEqualTo(100_000);
+    }
+
+    @Test
+    void rejectsAmountsBeyondALong() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void writesTwoDecimalPlaces() {
+        assertThat(Money.ofMinor(125_050).toBigDecimal()).isEqualByComparingTo("1250.50");
+        assertThat(Money.ofMinor(5).toString()).isEqualTo("0.05");
+        assertThat(Money.of(BigDecimal.ZERO)).isSameAs(Money.ZERO);
+    }
+}
@@ -0,0 +1,66 @@
+package com.vishal.manageMoney.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+// Goes through Hibernate Validator rather than calling the validators directly, so the service-file
+// registration that maps @Min and @DecimalMin onto Money is covered too
+class MoneyValidatorsTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void createValidator() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        factory.close();
+    }
+
+    record Amounts(
+            @Min(5) Money atLeastFiveRupees,
+            @DecimalMin("0.50") Money atLeastFiftyPaise,
+            @DecimalMin(value = "0.0", inclusive = false) Money positive) {
+    }
+
+    @Test
+    void acceptsAmountsOnTheBoundsAndNulls() {
+        assertThat(violations(new Amounts(Money.parse("5.00"), Money.parse("0.50"), Money.parse("0.01")))).isEmpty();
+        assertThat(violations(new Amounts(null, null, null))).isEmpty();
+    }
+
+    @Test
+    void minComparesInRupees() {
+        assertThat(violations(new Amounts(Money.parse("4.99"), null, null))).containsExactly("atLeastFiveRupees");
+        assertThat(violations(new Amounts(Money.parse("5000"), null, null))).isEmpty();
+    }
+
+    @Test
+    void decimalMinHonoursInclusive() {
+        assertThat(violations(new Amounts(null, Money.parse("0.49"), null))).containsExactly("atLeastFiftyPaise");
+        assertThat(violations(new Amounts(null, null, Money.ZERO))).containsExactly("positive");
+        assertThat(violations(new Amounts(null, null, Money.parse("-1")))).containsExactly("positive");
+    }
+
+    private static Set<String> violations(Amounts amounts) {
+        return validator.validate(amounts).stream()
+                .map(violation -> violation.getPropertyPath().toString())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,58 @@
+package com.vishal.manageMoney.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.vishal.manageMoney.utils.SearchTokenizer.Token;
+
+class SearchTokenizerTest {
+
+    @Test
+    void splitsOnAnythingButLettersAndDigitsAndLowerCases() {
+        assertThat(SearchTokenizer.tokenize("Uber-ride, 2x @ AIRPORT!")).containsExactly(
+                new Token("uber", 0, 4), new Token("ride", 5, 9), new Token("2x", 11, 13),
+                new Token("airport", 16, 23));
+    }
+
+    @Test
+    void dropsStopWordsAndSingleCharacters() {
+        assertThat(SearchTokenizer.terms("The rent for a flat in Pune, paid on the 1st")).containsExactly(
+                "rent", "flat", "pune", "paid", "1st");
+        assertThat(SearchTokenizer.terms("a b c 7")).isEmpty();
+        // Stop words are matched after lower-casing
+        assertThat(SearchTokenizer.terms("AND Or WITH")).isEmpty();
+    }
+
+    @Test
+    void keepsEveryOccurrenceButReportsDistinctTerms() {
+        assertThat(SearchTokenizer.tokenize("tea Tea TEA")).extracting(Token::term).containsExactly("tea", "tea", "tea");
+        assertThat(SearchTokenizer.terms("tea coffee Tea")).containsExactly("tea", "coffee");
+    }
+
+    @Test
+    void keepsCombiningMarksInsideTheWord() {
+        // The vowel sign in दूध (milk) is a non-spacing mark, not a separator
+        assertThat(SearchTokenizer.tokenize("दूध 2L")).containsExactly(new Token("दूध", 0, 3), new Token("2l", 4, 6));
+    }
+
+    @Test
+    void cutsTermsAtThirtyTwoCodePoints() {
+        assertThat(SearchTokenizer.terms("x".repeat(32) + " " + "y".repeat(40)))
+                .containsExactly("x".repeat(32), "y".repeat(32));
+
+        // Each of these letters takes two chars; the cut counts code points and never splits a surrogate pair
+        String mathLetter = new String(Character.toChars(0x1D4B6));
+        Token token = SearchTokenizer.tokenize(mathLetter.repeat(33)).get(0);
+        assertThat(token.term()).isEqualTo(mathLetter.repeat(32));
+        assertThat(token.term().codePointCount(0, token.term().length())).isEqualTo(SearchTokenizer.MAX_TERM_LENGTH);
+        // The range still covers the whole word
+        assertThat(token.end()).isEqualTo(66);
+    }
+
+    @Test
+    void treatsNullAndSeparatorsOnlyAsEmpty() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.terms(" -- ... ")).isEmpty();
+    }
+}
@@ -6,20 +6,15 @@ import {
   Tooltip,
   Legend
 } from 'chart.js';
+import { toAmount } from '../../utils/dashboardSummary';
 
 ChartJS.register(ArcElement, Tooltip, Legend);
 
-const ExpensePieChart = ({ expenses = [] }) => {
-  // Group expenses by category
-  const categoryTotals = expenses.reduce((acc, expense) => {
-    const category = expense.category || 'Other';
-    acc[category] = (acc[category] || 0) + (parseFloat(expense.amount) || 0);
-    return acc;
-  }, {});
-
+// categories: expensesByCategory of /api/dashboard/summary, already totalled by the server
+const ExpensePieChart = ({ categories: categoryTotals = [] }) => {
   // Convert to arrays for Chart.js
-  const categories = Object.keys(categoryTotals);
-  const amounts = Object.values(categoryTotals);
+  const categories = categoryTotals.map(({ label }) => label || 'Other');
+  const amounts = categoryTotals.map(({ total }) => toAmount(total));
 
   // Vibrant, diverse color palette for expense categories
   const colors = [
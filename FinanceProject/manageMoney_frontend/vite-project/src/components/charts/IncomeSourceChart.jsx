@@ -6,20 +6,15 @@ import {
   Tooltip,
   Legend
 } from 'chart.js';
+import { toAmount } from '../../utils/dashboardSummary';
 
 ChartJS.register(ArcElement, Tooltip, Legend);
 
-const IncomeSourceChart = ({ incomes = [] }) => {
-  // Group incomes by source/category
-  const sourceTotals = incomes.reduce((acc, income) => {
-    const source = income.source || income.category || 'Other';
-    acc[source] = (acc[source] || 0) + (parseFloat(income.amount) || 0);
-    return acc;
-  }, {});
-
+// sources: incomeBySource of /api/dashboard/summary, already totalled by the server
+const IncomeSourceChart = ({ sources: sourceTotals = [] }) => {
   // Convert to arrays for Chart.js
-  const sources = Object.keys(sourceTotals);
-  const amounts = Object.values(sourceTotals);
+  const sources = sourceTotals.map(({ label }) => label || 'Other');
+  const amounts = sourceTotals.map(({ total }) => toAmount(total));
 
   // Diverse, vibrant color palette for income sources
   const colors = [
@@ -9,30 +9,16 @@ import {
   Tooltip,
   Legend
 } from 'chart.js';
+import { toAmount } from '../../utils/dashboardSummary';
 
 ChartJS.register(CategoryScale, LinearScale, BarElement, Title, Tooltip, Legend);
 
-const LoanOverviewChart = ({ loans = [] }) => {
-  // Group loans by type
-  const loanTypeTotals = loans.reduce((acc, loan) => {
-    const type = loan.type || 'Other';
-    acc[type] = (acc[type] || 0) + (parseFloat(loan.principal) || 0);
-    return acc;
-  }, {});
-
+// loansByType: loansByType of /api/dashboard/summary, principal and EMI already totalled by the server
+const LoanOverviewChart = ({ loansByType = [] }) => {
   // Convert to arrays for Chart.js
-  const loanTypes = Object.keys(loanTypeTotals);
-  const principals = Object.values(loanTypeTotals);
-
-  // Calculate EMI totals by type
-  const emiTotals = loans.reduce((acc, loan) => {
-    const type = loan.type || 'Other';
-    const emi = parseFloat(loan.emi) || 0;
-    acc[type] = (acc[type] || 0) + emi;
-    return acc;
-  }, {});
-
-  const emis = loanTypes.map(type => emiTotals[type] || 0);
+  const loanTypes = loansByType.map(({ type }) => type || 'Other');
+  const principals = loansByType.map(({ principal }) => toAmount(principal));
+  const emis = loansByType.map(({ emi }) => toAmount(emi));
 
   if (loanTypes.length === 0) {
     return (
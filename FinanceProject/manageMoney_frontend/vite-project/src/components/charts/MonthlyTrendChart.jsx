@@ -11,6 +11,8 @@ import {
   Legend,
   Filler
 } from 'chart.js';
+import { toAmount } from '../../utils/dashboardSummary';
+import { toIsoDate } from '../../utils/transactionFilters';
 
 ChartJS.register(
   CategoryScale,
@@ -23,7 +25,8 @@ ChartJS.register(
   Filler
 );
 
-const MonthlyTrendChart = ({ incomes = [], expenses = [] }) => {
+// monthly: the monthly series of /api/dashboard/summary, one entry per yyyy-MM that has any transactions
+const MonthlyTrendChart = ({ monthly = [] }) => {
   // Get last 6 months
   const getLastSixMonths = () => {
     const months = [];
@@ -32,8 +35,7 @@ const MonthlyTrendChart = ({ incomes = [], expenses = [] }) => {
       const date = new Date(now.getFullYear(), now.getMonth() - i, 1);
       months.push({
         label: date.toLocaleDateString('en-IN', { month: 'short', year: 'numeric' }),
-        month: date.getMonth(),
-        year: date.getFullYear()
+        key: toIsoDate(date).slice(0, 7)
       });
     }
     return months;
@@ -41,24 +43,10 @@ const MonthlyTrendChart = ({ incomes = [], expenses = [] }) => {
 
   const months = getLastSixMonths();
 
-  // Calculate monthly totals
-  const monthlyIncomes = months.map(({ month, year }) => {
-    return incomes
-      .filter(income => {
-        const incomeDate = new Date(income.date || income.createdAt);
-        return incomeDate.getMonth() === month && incomeDate.getFullYear() === year;
-      })
-      .reduce((total, income) => total + (parseFloat(income.amount) || 0), 0);
-  });
-
-  const monthlyExpenses = months.map(({ month, year }) => {
-    return expenses
-      .filter(expense => {
-        const expenseDate = new Date(expense.date || expense.createdAt);
-        return expenseDate.getMonth() === month && expenseDate.getFullYear() === year;
-      })
-      .reduce((total, expense) => total + (parseFloat(expense.amount) || 0), 0);
-  });
+  // Months without transactions are missing from the series and plot as zero
+  const byMonth = Object.fromEntries(monthly.map(entry => [entry.month, entry]));
+  const monthlyIncomes = months.map(({ key }) => toAmount(byMonth[key]?.income));
+  const monthlyExpenses = months.map(({ key }) => toAmount(byMonth[key]?.expenses));
 
   const data = {
     labels: months.map(m => m.label),
@@ -51,7 +51,9 @@ export const API_ENDPOINTS = {
   // Income endpoints
   INCOME: {
     CREATE: '/api/income',
+    BULK_CREATE: '/api/income/bulk',
     GET_ALL: (userId) => `/api/income/user/${userId}/all`,
+    FILTER: '/api/income/filter',
     UPDATE: (id) => `/api/income/${id}`,
     DELETE: (id) => `/api/income/${id}`,
   },
@@ -59,7 +61,9 @@ export const API_ENDPOINTS = {
   // Expense endpoints
   EXPENSE: {
     CREATE: '/api/expense',
+    BULK_CREATE: '/api/expense/bulk',
     GET_ALL: (userId) => `/api/expense/user/${userId}/all`,
+    FILTER: '/api/expense/filter',
     UPDATE: (id) => `/api/expense/${id}`,
     DELETE: (id) => `/api/expense/${id}`,
   },
@@ -67,6 +71,7 @@ export const API_ENDPOINTS = {
   // Investment endpoints
   INVESTMENT: {
     CREATE: '/api/investment',
+    BULK_CREATE: '/api/investment/bulk',
     GET_ALL: (userId) => `/api/investment/user/${userId}/all`,
     UPDATE: (id) => `/api/investment/${id}`,
     DELETE: (id) => `/api/investment/${id}`,
@@ -75,10 +80,31 @@ export const API_ENDPOINTS = {
   // Loan endpoints
   LOAN: {
     CREATE: '/api/loan',
+    BULK_CREATE: '/api/loan/bulk',
     GET_ALL: (userId) => `/api/loan/user/${userId}/all`,
     UPDATE: (id) => `/api/loan/${id}`,
     DELETE: (id) => `/api/loan/${id}`,
   },
+
+  // Dashboard endpoints (aggregated on the server)
+  DASHBOARD: {
+    SUMMARY: '/api/dashboard/summary',
+  },
+
+  // Expenses, incomes, investments and loans merged by date, one keyset page at a time
+  FEED: {
+    PAGE: '/api/feed',
+  },
+
+  // Ranked, typo-tolerant search over transaction descriptions
+  SEARCH: {
+    QUERY: '/api/search',
+  },
+
+  // Full history download, streamed by the server
+  EXPORT: {
+    DOWNLOAD: (format = 'csv') => `/api/export?format=${format}`,
+  },
 };
 
 // Configuration options
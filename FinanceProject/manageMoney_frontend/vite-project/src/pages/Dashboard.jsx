@@ -1,10 +1,56 @@
-import React, { useEffect, useState } from 'react';
+import React, { useCallback, useEffect, useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useNavigate } from 'react-router-dom';
+import ApiService from '../services/ApiService';
+import { currentMonthRange, toAmount } from '../utils/dashboardSummary';
 import PageHeader from '../components/PageHeader';
 import MonthlyTrendChart from '../components/charts/MonthlyTrendChart';
 import PortfolioChart from '../components/charts/PortfolioChart';
 
+// Colours and icon per transaction type, shared by the feed and the filtered list
+const TRANSACTION_STYLES = {
+  income: {
+    color: 'text-green-600',
+    bgColor: 'bg-green-50',
+    borderColor: 'border-green-200',
+    icon: 'M12 8c-1.657 0-3 .895-3 2s1.343 2 3 2 3 .895 3 2-1.343 2-3 2m0-8c1.11 0 2.08.402 2.599 1M12 8V7m0 1v8m0 0v1m0-1c-1.11 0-2.08-.402-2.599-1'
+  },
+  expense: {
+    color: 'text-red-600',
+    bgColor: 'bg-red-50',
+    borderColor: 'border-red-200',
+    icon: 'M17 9V7a2 2 0 00-2-2H5a2 2 0 00-2 2v6a2 2 0 002 2h2m2 4h10a2 2 0 002-2v-6a2 2 0 00-2-2H9a2 2 0 00-2 2v6a2 2 0 002 2zm7-5a2 2 0 11-4 0 2 2 0 014 0z'
+  },
+  investment: {
+    color: 'text-blue-600',
+    bgColor: 'bg-blue-50',
+    borderColor: 'border-blue-200',
+    icon: 'M13 7h8m0 0v8m0-8l-8 8-4-4-6 6'
+  },
+  loan: {
+    color: 'text-yellow-600',
+    bgColor: 'bg-yellow-50',
+    borderColor: 'border-yellow-200',
+    icon: 'M19 21V5a2 2 0 00-2-2H7a2 2 0 00-2 2v16m14 0h2m-2 0h-5m-9 0H3m2 0h5M9 7h1m-1 4h1m4-4h1m-1 4h1m-5 10v-5a1 1 0 011-1h2a1 1 0 011 1v5m-4 0h4'
+  }
+};
+
+// Maps a feed item onto the per-type fields getTransactionDisplay reads
+const fromFeedItem = (item) => {
+  const type = item.kind.toLowerCase();
+  const base = { id: item.id, type, description: item.description, ...TRANSACTION_STYLES[type] };
+  switch (type) {
+    case 'income':
+      return { ...base, source: item.counterparty, category: item.category, amount: item.amount, date: item.date };
+    case 'expense':
+      return { ...base, category: item.category, amount: item.amount, date: item.date };
+    case 'investment':
+      return { ...base, institution: item.counterparty, amount: item.amount, date: item.date };
+    default:
+      return { ...base, lender: item.counterparty, principal: item.amount, startDate: item.date };
+  }
+};
+
 const Dashboard = () => {
   const { 
     userInfo, 
@@ -25,72 +71,85 @@ const Dashboard = () => {
   });
   const [activeTransactionFilters, setActiveTransactionFilters] = useState([]);
 
-  // Fetch financial data on component mount
-  useEffect(() => {
-    const loadFinancialData = async () => {
-      if (userInfo?.id) {
-        // Only fetch if data is stale or doesn't exist
-        if (isFinancialDataStale()) {
-          console.log('Loading financial data...');
-          await fetchFinancialSummary();
-        } else {
-          console.log('Using cached financial data');
-        }
-      }
-    };
-
-    loadFinancialData();
-  }, [userInfo?.id, fetchFinancialSummary, isFinancialDataStale]);
+  // Latest transactions from the merged server-side feed: one small request instead of all four collections
+  const [feedTransactions, setFeedTransactions] = useState([]);
+  const [isFeedLoading, setIsFeedLoading] = useState(false);
+  // Date and amount filters still work on the full collections; the type filter maps onto the feed's kinds
+  const usesFeed = !transactionFilters.timePeriod && !transactionFilters.amountRange;
+
+  // Cards and charts read the server's aggregates: this month's summary for the monthly figures, the
+  // unbounded one for the overall totals and the trend, fetched together instead of every transaction
+  const [summary, setSummary] = useState({ month: null, overall: null });
+  const [isSummaryLoading, setIsSummaryLoading] = useState(false);
+  const [summaryUpdated, setSummaryUpdated] = useState(null);
+
+  const loadSummary = useCallback(async () => {
+    setIsSummaryLoading(true);
+    try {
+      const [month, overall] = await Promise.all([
+        ApiService.getDashboardSummary(currentMonthRange()),
+        ApiService.getDashboardSummary()
+      ]);
+      setSummary({ month, overall });
+      setSummaryUpdated(new Date());
+    } catch (error) {
+      console.error('Failed to fetch dashboard summary:', error);
+    } finally {
+      setIsSummaryLoading(false);
+    }
+  }, []);
 
-  // Calculate total principal amount of all loans
-  const calculateTotalLoanPrincipal = () => {
-    if (!financialData.loans || financialData.loans.length === 0) {
-      return 0;
+  useEffect(() => {
+    if (userInfo?.id) {
+      loadSummary();
+    }
+  }, [userInfo?.id, loadSummary]);
+
+  const monthIncome = toAmount(summary.month?.totalIncome);
+  const monthExpenses = toAmount(summary.month?.totalExpenses);
+  const totalIncome = toAmount(summary.overall?.totalIncome);
+  const totalExpenses = toAmount(summary.overall?.totalExpenses);
+  const totalInvestments = toAmount(summary.overall?.totalInvestments);
+  const totalLoanPrincipal = toAmount(summary.overall?.totalPrincipal);
+  const netWorth = totalIncome + totalInvestments - totalExpenses - totalLoanPrincipal;
+
+  // Bumped by the Refresh button so the feed reloads with the summary
+  const [refreshCount, setRefreshCount] = useState(0);
+
+  const refreshDashboard = () => {
+    loadSummary();
+    setRefreshCount(count => count + 1);
+    if (!usesFeed) {
+      fetchFinancialSummary();
     }
-    
-    return financialData.loans.reduce((total, loan) => {
-      const principal = parseFloat(loan.principal) || 0;
-      return total + principal;
-    }, 0);
   };
 
-  // Calculate current month's income
-  const calculateCurrentMonthIncome = () => {
-    if (!financialData.incomes || financialData.incomes.length === 0) {
-      return 0;
+  // The full collections are only needed for the date and amount filters, so they are loaded when one is applied
+  useEffect(() => {
+    if (userInfo?.id && !usesFeed && isFinancialDataStale()) {
+      fetchFinancialSummary();
     }
-    
-    const currentDate = new Date();
-    const currentMonth = currentDate.getMonth();
-    const currentYear = currentDate.getFullYear();
-    
-    return financialData.incomes.reduce((total, income) => {
-      const incomeDate = new Date(income.date || income.createdAt);
-      if (incomeDate.getMonth() === currentMonth && incomeDate.getFullYear() === currentYear) {
-        return total + (parseFloat(income.amount) || 0);
-      }
-      return total;
-    }, 0);
-  };
+  }, [userInfo?.id, usesFeed, fetchFinancialSummary, isFinancialDataStale]);
 
-  // Calculate current month's expenses
-  const calculateCurrentMonthExpenses = () => {
-    if (!financialData.expenses || financialData.expenses.length === 0) {
-      return 0;
+  // Reload the feed when the type filter changes or the dashboard is refreshed
+  useEffect(() => {
+    if (!userInfo?.id || !usesFeed) {
+      return;
     }
-    
-    const currentDate = new Date();
-    const currentMonth = currentDate.getMonth();
-    const currentYear = currentDate.getFullYear();
-    
-    return financialData.expenses.reduce((total, expense) => {
-      const expenseDate = new Date(expense.date || expense.createdAt);
-      if (expenseDate.getMonth() === currentMonth && expenseDate.getFullYear() === currentYear) {
-        return total + (parseFloat(expense.amount) || 0);
-      }
-      return total;
-    }, 0);
-  };
+    let cancelled = false;
+    setIsFeedLoading(true);
+    ApiService.getTransactionFeed({ size: 10, kinds: transactionFilters.type || undefined })
+      .then(page => {
+        if (!cancelled) setFeedTransactions(page.items.map(fromFeedItem));
+      })
+      .catch(error => console.error('Failed to fetch transaction feed:', error))
+      .finally(() => {
+        if (!cancelled) setIsFeedLoading(false);
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, [userInfo?.id, usesFeed, transactionFilters.type, refreshCount]);
 
   // Filter logic functions for recent transactions
   const applyTransactionFilters = () => {
@@ -214,55 +273,16 @@ const Dashboard = () => {
 
   // Helper function to get all recent transactions sorted by date (newest first)
   const getRecentTransactions = () => {
-    const allTransactions = [];
-
-    // Add incomes
-    financialData.incomes.forEach(income => {
-      allTransactions.push({
-        ...income,
-        type: 'income',
-        color: 'text-green-600',
-        bgColor: 'bg-green-50',
-        borderColor: 'border-green-200',
-        icon: 'M12 8c-1.657 0-3 .895-3 2s1.343 2 3 2 3 .895 3 2-1.343 2-3 2m0-8c1.11 0 2.08.402 2.599 1M12 8V7m0 1v8m0 0v1m0-1c-1.11 0-2.08-.402-2.599-1'
-      });
-    });
-
-    // Add expenses
-    financialData.expenses.forEach(expense => {
-      allTransactions.push({
-        ...expense,
-        type: 'expense',
-        color: 'text-red-600',
-        bgColor: 'bg-red-50',
-        borderColor: 'border-red-200',
-        icon: 'M17 9V7a2 2 0 00-2-2H5a2 2 0 00-2 2v6a2 2 0 002 2h2m2 4h10a2 2 0 002-2v-6a2 2 0 00-2-2H9a2 2 0 00-2 2v6a2 2 0 002 2zm7-5a2 2 0 11-4 0 2 2 0 014 0z'
-      });
-    });
-
-    // Add investments
-    financialData.investments.forEach(investment => {
-      allTransactions.push({
-        ...investment,
-        type: 'investment',
-        color: 'text-blue-600',
-        bgColor: 'bg-blue-50',
-        borderColor: 'border-blue-200',
-        icon: 'M13 7h8m0 0v8m0-8l-8 8-4-4-6 6'
-      });
-    });
+    if (usesFeed) {
+      return feedTransactions;
+    }
 
-    // Add loans
-    financialData.loans.forEach(loan => {
-      allTransactions.push({
-        ...loan,
-        type: 'loan',
-        color: 'text-yellow-600',
-        bgColor: 'bg-yellow-50',
-        borderColor: 'border-yellow-200',
-        icon: 'M19 21V5a2 2 0 00-2-2H7a2 2 0 00-2 2v16m14 0h2m-2 0h-5m-9 0H3m2 0h5M9 7h1m-1 4h1m4-4h1m-1 4h1m-5 10v-5a1 1 0 011-1h2a1 1 0 011 1v5m-4 0h4'
-      });
-    });
+    const allTransactions = [
+      ...financialData.incomes.map(income => ({ ...income, type: 'income', ...TRANSACTION_STYLES.income })),
+      ...financialData.expenses.map(expense => ({ ...expense, type: 'expense', ...TRANSACTION_STYLES.expense })),
+      ...financialData.investments.map(investment => ({ ...investment, type: 'investment', ...TRANSACTION_STYLES.investment })),
+      ...financialData.loans.map(loan => ({ ...loan, type: 'loan', ...TRANSACTION_STYLES.loan }))
+    ];
 
     // Apply filters
     let filteredTransactions = [...allTransactions];
@@ -418,11 +438,11 @@ const Dashboard = () => {
                   <h3 className="text-lg leading-6 font-medium text-gray-900">This Month's Income</h3>
                 </div>
                 <div className="mt-2 flex items-baseline">
-                  {financialData.isLoading ? (
+                  {isSummaryLoading && !summary.overall ? (
                     <div className="animate-pulse bg-gray-200 h-8 w-24 rounded"></div>
                   ) : (
                     <span className="text-2xl font-semibold text-green-600">
-                      ₹{calculateCurrentMonthIncome().toLocaleString('en-IN')}
+                      ₹{monthIncome.toLocaleString('en-IN')}
                     </span>
                   )}
                 </div>
@@ -430,7 +450,7 @@ const Dashboard = () => {
                   {new Date().toLocaleDateString('en-IN', { month: 'long', year: 'numeric' })}
                 </p>
                 <p className="text-xs text-gray-400 mt-1">
-                  {financialData.incomes.length} total income sources
+                  {summary.month?.incomeBySource?.length || 0} income sources this month
                 </p>
               </div>
             </div>
@@ -448,11 +468,11 @@ const Dashboard = () => {
                   <h3 className="text-lg leading-6 font-medium text-gray-900">This Month's Expenses</h3>
                 </div>
                 <div className="mt-2 flex items-baseline">
-                  {financialData.isLoading ? (
+                  {isSummaryLoading && !summary.overall ? (
                     <div className="animate-pulse bg-gray-200 h-8 w-24 rounded"></div>
                   ) : (
                     <span className="text-2xl font-semibold text-red-600">
-                      ₹{calculateCurrentMonthExpenses().toLocaleString('en-IN')}
+                      ₹{monthExpenses.toLocaleString('en-IN')}
                     </span>
                   )}
                 </div>
@@ -460,7 +480,7 @@ const Dashboard = () => {
                   {new Date().toLocaleDateString('en-IN', { month: 'long', year: 'numeric' })}
                 </p>
                 <p className="text-xs text-gray-400 mt-1">
-                  {financialData.expenses.length} total expense entries
+                  {summary.month?.expensesByCategory?.length || 0} expense categories this month
                 </p>
               </div>
             </div>
@@ -478,16 +498,16 @@ const Dashboard = () => {
                   <h3 className="text-lg leading-6 font-medium text-gray-900">Investments</h3>
                 </div>
                 <div className="mt-2 flex items-baseline">
-                  {financialData.isLoading ? (
+                  {isSummaryLoading && !summary.overall ? (
                     <div className="animate-pulse bg-gray-200 h-8 w-24 rounded"></div>
                   ) : (
                     <span className="text-2xl font-semibold text-blue-600">
-                      ₹{financialData.totalInvestments.toLocaleString('en-IN')}
+                      ₹{totalInvestments.toLocaleString('en-IN')}
                     </span>
                   )}
                 </div>
                 <p className="text-sm text-gray-500 mt-1">
-                  {financialData.investments.length} investments
+                  {summary.overall?.investmentsByType?.length || 0} investment types
                 </p>
               </div>
             </div>
@@ -505,16 +525,16 @@ const Dashboard = () => {
                   <h3 className="text-lg leading-6 font-medium text-gray-900">Total Debt</h3>
                 </div>
                 <div className="mt-2 flex items-baseline">
-                  {financialData.isLoading ? (
+                  {isSummaryLoading && !summary.overall ? (
                     <div className="animate-pulse bg-gray-200 h-8 w-24 rounded"></div>
                   ) : (
                     <span className="text-2xl font-semibold text-yellow-600">
-                      ₹{calculateTotalLoanPrincipal().toLocaleString('en-IN')}
+                      ₹{totalLoanPrincipal.toLocaleString('en-IN')}
                     </span>
                   )}
                 </div>
                 <p className="text-sm text-gray-500 mt-1">
-                  {financialData.loans.length} active loans
+                  {summary.overall?.loansByType?.length || 0} loan types
                 </p>
                 <p className="text-xs text-gray-400 mt-1">
                   Total principal amount
@@ -531,16 +551,16 @@ const Dashboard = () => {
                   Financial Overview
                 </h3>
                 <button
-                  onClick={fetchFinancialSummary}
-                  disabled={financialData.isLoading}
+                  onClick={refreshDashboard}
+                  disabled={isSummaryLoading}
                   className="text-sm text-indigo-600 hover:text-indigo-500 font-medium disabled:opacity-50"
                 >
-                  {financialData.isLoading ? 'Refreshing...' : 'Refresh'}
+                  {isSummaryLoading ? 'Refreshing...' : 'Refresh'}
                 </button>
               </div>
             </div>
             <div className="px-6 py-4">
-              {financialData.isLoading ? (
+              {isSummaryLoading && !summary.overall ? (
                 <div className="text-center py-8">
                   <div className="animate-spin rounded-full h-8 w-8 border-b-2 border-indigo-600 mx-auto"></div>
                   <p className="text-gray-500 mt-2">Loading financial data...</p>
@@ -551,8 +571,8 @@ const Dashboard = () => {
                   <div className="bg-gray-50 rounded-lg p-4">
                     <h4 className="text-lg font-medium text-gray-900 mb-2">This Month's Cash Flow</h4>
                     <div className="text-3xl font-bold">
-                      <span className={`${(calculateCurrentMonthIncome() - calculateCurrentMonthExpenses()) >= 0 ? 'text-green-600' : 'text-red-600'}`}>
-                        ₹{(calculateCurrentMonthIncome() - calculateCurrentMonthExpenses()).toLocaleString('en-IN')}
+                      <span className={`${(monthIncome - monthExpenses) >= 0 ? 'text-green-600' : 'text-red-600'}`}>
+                        ₹{(monthIncome - monthExpenses).toLocaleString('en-IN')}
                       </span>
                     </div>
                     <p className="text-sm text-gray-500 mt-1">
@@ -564,8 +584,8 @@ const Dashboard = () => {
                   <div className="bg-blue-50 rounded-lg p-4">
                     <h4 className="text-lg font-medium text-gray-900 mb-2">Overall Net Worth</h4>
                     <div className="text-2xl font-bold">
-                      <span className={`${(financialData.totalIncome + financialData.totalInvestments - financialData.totalExpenses - calculateTotalLoanPrincipal()) >= 0 ? 'text-green-600' : 'text-red-600'}`}>
-                        ₹{(financialData.totalIncome + financialData.totalInvestments - financialData.totalExpenses - calculateTotalLoanPrincipal()).toLocaleString('en-IN')}
+                      <span className={`${netWorth >= 0 ? 'text-green-600' : 'text-red-600'}`}>
+                        ₹{netWorth.toLocaleString('en-IN')}
                       </span>
                     </div>
                     <p className="text-sm text-gray-500 mt-1">
@@ -580,7 +600,7 @@ const Dashboard = () => {
                         Total Investments
                       </h4>
                       <p className="text-xl font-semibold text-blue-600">
-                        ₹{financialData.totalInvestments.toLocaleString('en-IN')}
+                        ₹{totalInvestments.toLocaleString('en-IN')}
                       </p>
                     </div>
                     <div>
@@ -588,7 +608,7 @@ const Dashboard = () => {
                         Total Debt
                       </h4>
                       <p className="text-xl font-semibold text-yellow-600">
-                        ₹{calculateTotalLoanPrincipal().toLocaleString('en-IN')}
+                        ₹{totalLoanPrincipal.toLocaleString('en-IN')}
                       </p>
                     </div>
                     <div>
@@ -596,17 +616,17 @@ const Dashboard = () => {
                         Monthly Savings Rate
                       </h4>
                       <p className="text-xl font-semibold text-purple-600">
-                        {calculateCurrentMonthIncome() > 0 
-                          ? `${(((calculateCurrentMonthIncome() - calculateCurrentMonthExpenses()) / calculateCurrentMonthIncome()) * 100).toFixed(1)}%`
+                        {monthIncome > 0 
+                          ? `${(((monthIncome - monthExpenses) / monthIncome) * 100).toFixed(1)}%`
                           : '0%'
                         }
                       </p>
                     </div>
                   </div>
 
-                  {financialData.lastUpdated && (
+                  {summaryUpdated && (
                     <p className="text-xs text-gray-400 text-center">
-                      Last updated: {financialData.lastUpdated.toLocaleString('en-IN')}
+                      Last updated: {summaryUpdated.toLocaleString('en-IN')}
                     </p>
                   )}
                 </div>
@@ -615,17 +635,14 @@ const Dashboard = () => {
           </div>
 
           {/* Analytics Charts - Only show if there's data */}
-          {(financialData.incomes.length > 0 || financialData.expenses.length > 0 || financialData.investments.length > 0 || financialData.loans.length > 0) && (
+          {(totalIncome > 0 || totalExpenses > 0 || totalInvestments > 0 || totalLoanPrincipal > 0) && (
             <div className="grid grid-cols-1 lg:grid-cols-2 gap-6 mt-8">
-              <MonthlyTrendChart 
-                incomes={financialData.incomes} 
-                expenses={financialData.expenses} 
-              />
+              <MonthlyTrendChart monthly={summary.overall.monthly} />
               <PortfolioChart 
-                totalIncome={financialData.totalIncome}
-                totalExpenses={financialData.totalExpenses}
-                totalInvestments={financialData.totalInvestments}
-                totalLoans={calculateTotalLoanPrincipal()}
+                totalIncome={totalIncome}
+                totalExpenses={totalExpenses}
+                totalInvestments={totalInvestments}
+                totalLoans={totalLoanPrincipal}
               />
             </div>
           )}
@@ -697,7 +714,7 @@ const Dashboard = () => {
               </div>
             )}
             <div className="px-6 py-4">
-              {financialData.isLoading ? (
+              {(usesFeed ? isFeedLoading : financialData.isLoading) ? (
                 <div className="text-center py-8">
                   <div className="animate-spin rounded-full h-8 w-8 border-b-2 border-indigo-600 mx-auto"></div>
                   <p className="text-gray-500 mt-2">Loading transactions...</p>
@@ -1,9 +1,10 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useToast } from '../context/ToastContext';
 import PageHeader from '../components/PageHeader';
 import { useNavigate } from 'react-router-dom';
 import ApiService from '../services/ApiService';
+import { FILTER_PAGE_SIZE, toFilterParams } from '../utils/transactionFilters';
 import ExpensePieChart from '../components/charts/ExpensePieChart';
 
 
@@ -15,6 +16,18 @@ const Expenses = () => {
   } = useAuth();
   const { showSuccess, showError } = useToast();
 
+  // Chart totals come pre-aggregated from the dashboard summary; refetched whenever the data is refreshed after an edit
+  const [summary, setSummary] = useState(null);
+  useEffect(() => {
+    let cancelled = false;
+    ApiService.getDashboardSummary()
+      .then(data => {
+        if (!cancelled) setSummary(data);
+      })
+      .catch(error => console.error('Failed to fetch expense summary:', error));
+    return () => { cancelled = true; };
+  }, [financialData.lastUpdated]);
+
   const navigate = useNavigate();
 
   // State for edit/delete functionality
@@ -44,6 +57,45 @@ const Expenses = () => {
   });
   const [activeFilters, setActiveFilters] = useState([]);
 
+  // Filtered records are fetched from the server a page at a time rather than filtered here
+  const [filterPage, setFilterPage] = useState(null);
+  const [isFiltering, setIsFiltering] = useState(false);
+
+  // Re-run the filter when it changes or the financial data is refreshed after an edit
+  useEffect(() => {
+    if (activeFilters.length === 0) {
+      setFilterPage(null);
+      return;
+    }
+    let cancelled = false;
+    setIsFiltering(true);
+    ApiService.filterExpenses({ ...toFilterParams(activeFilters, filters), page: 0, size: FILTER_PAGE_SIZE })
+      .then(page => {
+        if (!cancelled) setFilterPage(page);
+      })
+      .catch(error => {
+        console.error('Failed to filter expenses:', error);
+        if (!cancelled) showError('Could not apply filters. Please try again.', 5000);
+      })
+      .finally(() => {
+        if (!cancelled) setIsFiltering(false);
+      });
+    return () => { cancelled = true; };
+  }, [activeFilters, financialData.lastUpdated]);
+
+  const loadMoreFiltered = async () => {
+    setIsLoadingMore(true);
+    try {
+      const next = await ApiService.filterExpenses({ ...toFilterParams(activeFilters, filters), page: filterPage.page + 1, size: FILTER_PAGE_SIZE });
+      setFilterPage(prev => ({ ...next, items: [...prev.items, ...next.items] }));
+    } catch (error) {
+      console.error('Failed to load more expenses:', error);
+      showError('Could not load more records. Please try again.', 5000);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const formatCurrency = (amount) => {
     return new Intl.NumberFormat('en-IN', {
       style: 'currency',
@@ -265,91 +317,15 @@ const Expenses = () => {
     });
   };
 
-  // Apply filters to expense data
-  const getFilteredExpenses = () => {
-    if (activeFilters.length === 0) {
-      return sortedExpenses;
-    }
-    
-    return sortedExpenses.filter(expense => {
-      const expenseDate = new Date(expense.date);
-      const expenseAmount = parseFloat(expense.amount);
-      
-      // Time period filter
-      const timePeriodFilter = activeFilters.find(f => f.type === 'timePeriod');
-      if (timePeriodFilter) {
-        const now = new Date();
-        let isInDateRange = false;
-        
-        switch (timePeriodFilter.value) {
-          case 'thisMonth':
-            isInDateRange = expenseDate.getMonth() === now.getMonth() && expenseDate.getFullYear() === now.getFullYear();
-            break;
-          case 'lastMonth':
-            const lastMonth = new Date(now.getFullYear(), now.getMonth() - 1, 1);
-            isInDateRange = expenseDate.getMonth() === lastMonth.getMonth() && expenseDate.getFullYear() === lastMonth.getFullYear();
-            break;
-          case 'last3Months':
-            const threeMonthsAgo = new Date(now.getFullYear(), now.getMonth() - 3, 1);
-            isInDateRange = expenseDate >= threeMonthsAgo;
-            break;
-          case 'last6Months':
-            const sixMonthsAgo = new Date(now.getFullYear(), now.getMonth() - 6, 1);
-            isInDateRange = expenseDate >= sixMonthsAgo;
-            break;
-          case 'thisYear':
-            isInDateRange = expenseDate.getFullYear() === now.getFullYear();
-            break;
-          case 'lastYear':
-            isInDateRange = expenseDate.getFullYear() === (now.getFullYear() - 1);
-            break;
-          case 'custom':
-            if (filters.dateFrom && filters.dateTo) {
-              const fromDate = new Date(filters.dateFrom);
-              const toDate = new Date(filters.dateTo);
-              isInDateRange = expenseDate >= fromDate && expenseDate <= toDate;
-            }
-            break;
-        }
-        
-        if (!isInDateRange) return false;
-      }
-      
-      // Category filter
-      const categoryFilter = activeFilters.find(f => f.type === 'category');
-      if (categoryFilter && expense.category !== categoryFilter.value) {
-        return false;
-      }
-      
-      // Payment Mode filter
-      const paymentModeFilter = activeFilters.find(f => f.type === 'paymentMode');
-      if (paymentModeFilter && expense.paymentMode !== paymentModeFilter.value) {
-        return false;
-      }
-      
-      // Amount range filter
-      const amountFilter = activeFilters.find(f => f.type === 'amountRange');
-      if (amountFilter) {
-        const [min, max] = amountFilter.value.split('-').map(v => v === '+' ? Infinity : parseFloat(v.replace(/[^0-9]/g, '')));
-        if (max === undefined) {
-          // Handle '100000+' case
-          if (!isNaN(min) && expenseAmount < min) return false;
-        } else {
-          if (expenseAmount < min || expenseAmount > max) return false;
-        }
-      }
-      
-      return true;
-    });
-  };
-
   const sortedExpenses = financialData.expenses
     .sort((a, b) => new Date(b.date) - new Date(a.date));
 
   // Get filtered expenses for display
-  const filteredExpenses = getFilteredExpenses();
+  const filteredExpenses = activeFilters.length === 0 ? sortedExpenses : (filterPage?.items || []);
+  const filteredCount = activeFilters.length === 0 ? sortedExpenses.length : (filterPage?.totalElements ?? 0);
+  const hasMoreFilterPages = filterPage !== null && filterPage.page + 1 < filterPage.totalPages;
   const displayedExpenses = showAllExpenses ? filteredExpenses : filteredExpenses.slice(0, 5);
-  const hasMoreExpenses = filteredExpenses.length > 5;
+  const hasMoreExpenses = filteredCount > 5;
 
   return (
     <div className="min-h-screen bg-gray-50">
@@ -391,10 +367,10 @@ const Expenses = () => {
           </div>
 
           {/* Expense Analytics - Only show if there are expenses */}
-          {financialData.expenses && financialData.expenses.length > 0 && (
+          {summary?.expensesByCategory?.length > 0 && (
             <div className="mt-8 mb-8">
               <div className="w-full">
-                <ExpensePieChart expenses={financialData.expenses} />
+                <ExpensePieChart categories={summary.expensesByCategory} />
               </div>
             </div>
           )}
@@ -407,7 +383,7 @@ const Expenses = () => {
                   {showAllExpenses ? 'All Expense Records' : 'Recent Expenses'}
                   {showAllExpenses && (
                     <span className="ml-2 text-sm text-gray-500">
-                      ({activeFilters.length > 0 ? `${filteredExpenses.length} filtered` : `${sortedExpenses.length} total`})
+                      ({activeFilters.length > 0 ? `${filteredCount} filtered` : `${sortedExpenses.length} total`})
                     </span>
                   )}
                 </h3>
@@ -455,13 +431,13 @@ const Expenses = () => {
                   ))}
                 </div>
                 <div className="mt-2 text-xs text-gray-600">
-                  Showing {filteredExpenses.length} of {sortedExpenses.length} expense records
+                  Showing {filteredCount} of {sortedExpenses.length} expense records
                 </div>
               </div>
             )}
 
             <div className="px-4 sm:px-6 py-3 sm:py-4">
-              {financialData.isLoading ? (
+              {financialData.isLoading || isFiltering ? (
                 <div className="text-center py-6 sm:py-8">
                   <div className="animate-spin rounded-full h-6 w-6 sm:h-8 sm:w-8 border-b-2 border-indigo-600 mx-auto"></div>
                   <p className="text-gray-500 mt-2 text-sm sm:text-base">Loading expense data...</p>
@@ -552,6 +528,19 @@ const Expenses = () => {
                   ))}
                   </div>
 
+                  {/* Next page of server-side filter matches */}
+                  {showAllExpenses && hasMoreFilterPages && (
+                    <div className="mt-4 text-center">
+                      <button
+                        onClick={loadMoreFiltered}
+                        disabled={isLoadingMore}
+                        className="text-sm font-medium text-indigo-600 hover:text-indigo-500 disabled:opacity-50"
+                      >
+                        {isLoadingMore ? 'Loading...' : `Load more (${filteredExpenses.length} of ${filteredCount} shown)`}
+                      </button>
+                    </div>
+                  )}
+
                   {/* More/Less Button */}
                   {hasMoreExpenses && (
                     <div className="mt-6 text-center">
@@ -570,7 +559,7 @@ const Expenses = () => {
                             <svg className="w-4 h-4 mr-2" fill="none" stroke="currentColor" viewBox="0 0 24 24">
                               <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M19 9l-7 7-7-7" />
                             </svg>
-                            Show All ({filteredExpenses.length} records)
+                            Show All ({filteredCount} records)
                           </>
                         )}
                       </button>
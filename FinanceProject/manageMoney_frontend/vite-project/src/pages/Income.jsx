@@ -1,9 +1,10 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useToast } from '../context/ToastContext';
 import PageHeader from '../components/PageHeader';
 import { useNavigate } from 'react-router-dom';
 import ApiService from '../services/ApiService';
+import { FILTER_PAGE_SIZE, toFilterParams } from '../utils/transactionFilters';
 import IncomeSourceChart from '../components/charts/IncomeSourceChart';
 
 
@@ -15,6 +16,18 @@ const Income = () => {
   } = useAuth();
   const { showSuccess, showError } = useToast();
 
+  // Chart totals come pre-aggregated from the dashboard summary; refetched whenever the data is refreshed after an edit
+  const [summary, setSummary] = useState(null);
+  useEffect(() => {
+    let cancelled = false;
+    ApiService.getDashboardSummary()
+      .then(data => {
+        if (!cancelled) setSummary(data);
+      })
+      .catch(error => console.error('Failed to fetch income summary:', error));
+    return () => { cancelled = true; };
+  }, [financialData.lastUpdated]);
+
   const navigate = useNavigate();
   
   // State management for enhanced functionality
@@ -43,6 +56,45 @@ const Income = () => {
   });
   const [activeFilters, setActiveFilters] = useState([]);
 
+  // Filtered records are fetched from the server a page at a time rather than filtered here
+  const [filterPage, setFilterPage] = useState(null);
+  const [isFiltering, setIsFiltering] = useState(false);
+
+  // Re-run the filter when it changes or the financial data is refreshed after an edit
+  useEffect(() => {
+    if (activeFilters.length === 0) {
+      setFilterPage(null);
+      return;
+    }
+    let cancelled = false;
+    setIsFiltering(true);
+    ApiService.filterIncome({ ...toFilterParams(activeFilters, filters), page: 0, size: FILTER_PAGE_SIZE })
+      .then(page => {
+        if (!cancelled) setFilterPage(page);
+      })
+      .catch(error => {
+        console.error('Failed to filter incomes:', error);
+        if (!cancelled) showError('Could not apply filters. Please try again.', 5000);
+      })
+      .finally(() => {
+        if (!cancelled) setIsFiltering(false);
+      });
+    return () => { cancelled = true; };
+  }, [activeFilters, financialData.lastUpdated]);
+
+  const loadMoreFiltered = async () => {
+    setIsLoadingMore(true);
+    try {
+      const next = await ApiService.filterIncome({ ...toFilterParams(activeFilters, filters), page: filterPage.page + 1, size: FILTER_PAGE_SIZE });
+      setFilterPage(prev => ({ ...next, items: [...prev.items, ...next.items] }));
+    } catch (error) {
+      console.error('Failed to load more incomes:', error);
+      showError('Could not load more records. Please try again.', 5000);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const formatCurrency = (amount) => {
     return new Intl.NumberFormat('en-IN', {
       style: 'currency',
@@ -267,82 +319,12 @@ const Income = () => {
     });
   };
 
-  // Apply filters to income data
-  const getFilteredIncomes = () => {
-    if (activeFilters.length === 0) {
-      return sortedIncomes;
-    }
-    
-    return sortedIncomes.filter(income => {
-      const incomeDate = new Date(income.date);
-      const incomeAmount = parseFloat(income.amount);
-      
-      // Time period filter
-      const timePeriodFilter = activeFilters.find(f => f.type === 'timePeriod');
-      if (timePeriodFilter) {
-        const now = new Date();
-        let isInDateRange = false;
-        
-        switch (timePeriodFilter.value) {
-          case 'thisMonth':
-            isInDateRange = incomeDate.getMonth() === now.getMonth() && incomeDate.getFullYear() === now.getFullYear();
-            break;
-          case 'lastMonth':
-            const lastMonth = new Date(now.getFullYear(), now.getMonth() - 1, 1);
-            isInDateRange = incomeDate.getMonth() === lastMonth.getMonth() && incomeDate.getFullYear() === lastMonth.getFullYear();
-            break;
-          case 'last3Months':
-            const threeMonthsAgo = new Date(now.getFullYear(), now.getMonth() - 3, 1);
-            isInDateRange = incomeDate >= threeMonthsAgo;
-            break;
-          case 'last6Months':
-            const sixMonthsAgo = new Date(now.getFullYear(), now.getMonth() - 6, 1);
-            isInDateRange = incomeDate >= sixMonthsAgo;
-            break;
-          case 'thisYear':
-            isInDateRange = incomeDate.getFullYear() === now.getFullYear();
-            break;
-          case 'lastYear':
-            isInDateRange = incomeDate.getFullYear() === (now.getFullYear() - 1);
-            break;
-          case 'custom':
-            if (filters.dateFrom && filters.dateTo) {
-              const fromDate = new Date(filters.dateFrom);
-              const toDate = new Date(filters.dateTo);
-              isInDateRange = incomeDate >= fromDate && incomeDate <= toDate;
-            }
-            break;
-        }
-        
-        if (!isInDateRange) return false;
-      }
-      
-      // Category filter
-      const categoryFilter = activeFilters.find(f => f.type === 'category');
-      if (categoryFilter && income.category !== categoryFilter.value) {
-        return false;
-      }
-      
-      // Amount range filter
-      const amountFilter = activeFilters.find(f => f.type === 'amountRange');
-      if (amountFilter) {
-        const [min, max] = amountFilter.value.split('-').map(v => v === '+' ? Infinity : parseFloat(v.replace(/[^0-9]/g, '')));
-        if (max === undefined) {
-          // Handle '100000+' case
-          if (!isNaN(min) && incomeAmount < min) return false;
-        } else {
-          if (incomeAmount < min || incomeAmount > max) return false;
-        }
-      }
-      
-      return true;
-    });
-  };
-
   // Get filtered incomes for display
-  const filteredIncomes = getFilteredIncomes();
+  const filteredIncomes = activeFilters.length === 0 ? sortedIncomes : (filterPage?.items || []);
+  const filteredCount = activeFilters.length === 0 ? sortedIncomes.length : (filterPage?.totalElements ?? 0);
+  const hasMoreFilterPages = filterPage !== null && filterPage.page + 1 < filterPage.totalPages;
   const displayedIncomes = showAllIncomes ? filteredIncomes : filteredIncomes.slice(0, 5);
-  const hasMoreIncomes = filteredIncomes.length > 5;
+  const hasMoreIncomes = filteredCount > 5;
 
   return (
     <div className="min-h-screen bg-gray-50">
@@ -384,10 +366,10 @@ const Income = () => {
           </div>
 
           {/* Income Analytics - Only show if there are incomes */}
-          {financialData.incomes && financialData.incomes.length > 0 && (
+          {summary?.incomeBySource?.length > 0 && (
             <div className="mt-8 mb-8">
               <div className="w-full">
-                <IncomeSourceChart incomes={financialData.incomes} />
+                <IncomeSourceChart sources={summary.incomeBySource} />
               </div>
             </div>
           )}
@@ -400,7 +382,7 @@ const Income = () => {
                   {showAllIncomes ? 'All Income Records' : 'Recent Income'}
                   {showAllIncomes && (
                     <span className="ml-2 text-sm text-gray-500">
-                      ({activeFilters.length > 0 ? `${filteredIncomes.length} filtered` : `${sortedIncomes.length} total`})
+                      ({activeFilters.length > 0 ? `${filteredCount} filtered` : `${sortedIncomes.length} total`})
                     </span>
                   )}
                 </h3>
@@ -447,13 +429,13 @@ const Income = () => {
                   ))}
                 </div>
                 <div className="mt-2 text-xs text-gray-600">
-                  Showing {filteredIncomes.length} of {sortedIncomes.length} income records
+                  Showing {filteredCount} of {sortedIncomes.length} income records
                 </div>
               </div>
             )}
 
             <div className="px-4 sm:px-6 py-3 sm:py-4">
-              {financialData.isLoading ? (
+              {financialData.isLoading || isFiltering ? (
                 <div className="text-center py-6 sm:py-8">
                   <div className="animate-spin rounded-full h-6 w-6 sm:h-8 sm:w-8 border-b-2 border-indigo-600 mx-auto"></div>
                   <p className="text-gray-500 mt-2 text-sm sm:text-base">Loading income data...</p>
@@ -544,6 +526,19 @@ const Income = () => {
                   ))}
                 </div>
                         
+                {/* Next page of server-side filter matches */}
+                {showAllIncomes && hasMoreFilterPages && (
+                  <div className="mt-4 text-center">
+                    <button
+                      onClick={loadMoreFiltered}
+                      disabled={isLoadingMore}
+                      className="text-sm font-medium text-indigo-600 hover:text-indigo-500 disabled:opacity-50"
+                    >
+                      {isLoadingMore ? 'Loading...' : `Load more (${filteredIncomes.length} of ${filteredCount} shown)`}
+                    </button>
+                  </div>
+                )}
+
                 {/* More/Less Button */}
                 {hasMoreIncomes && (
                   <div className="mt-4 text-center">
@@ -569,7 +564,7 @@ const Income = () => {
                           <svg className="w-4 h-4 mr-2" fill="none" stroke="currentColor" viewBox="0 0 24 24">
                             <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M19 9l-7 7-7-7" />
                           </svg>
-                          Show All ({filteredIncomes.length} records)
+                          Show All ({filteredCount} records)
                         </>
                       )}
                     </button>
@@ -1,4 +1,4 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useToast } from '../context/ToastContext';
 import PageHeader from '../components/PageHeader';
@@ -14,6 +14,18 @@ const Loans = () => {
   } = useAuth();
   const { showSuccess, showError } = useToast();
 
+  // Chart totals come pre-aggregated from the dashboard summary; refetched whenever the data is refreshed after an edit
+  const [summary, setSummary] = useState(null);
+  useEffect(() => {
+    let cancelled = false;
+    ApiService.getDashboardSummary()
+      .then(data => {
+        if (!cancelled) setSummary(data);
+      })
+      .catch(error => console.error('Failed to fetch loan summary:', error));
+    return () => { cancelled = true; };
+  }, [financialData.lastUpdated]);
+
   const navigate = useNavigate();
   
   // State management for edit/delete functionality
@@ -412,10 +424,10 @@ const Loans = () => {
           </div>
 
           {/* Loan Analytics - Only show if there are loans */}
-          {financialData.loans && financialData.loans.length > 0 && (
+          {summary?.loansByType?.length > 0 && (
             <div className="mt-8 mb-8">
               <div className="w-full">
-                <LoanOverviewChart loans={financialData.loans} />
+                <LoanOverviewChart loansByType={summary.loansByType} />
               </div>
             </div>
           )}
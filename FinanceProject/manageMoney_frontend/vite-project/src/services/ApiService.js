@@ -72,6 +72,12 @@ class ApiService {
     return response.data;
   }
 
+  // params: { from, to, category, minAmount, maxAmount, page, size }; returns { items, page, size, totalElements, totalPages }
+  static async filterIncome(params = {}) {
+    const response = await apiClient.get(API_ENDPOINTS.INCOME.FILTER, { params });
+    return response.data;
+  }
+
   static async updateIncome(id, updateData) {
     const response = await apiClient.put(API_ENDPOINTS.INCOME.UPDATE(id), updateData);
     return response.data;
@@ -93,6 +99,12 @@ class ApiService {
     return response.data;
   }
 
+  // params: { from, to, category, paymentMode, minAmount, maxAmount, page, size }; returns { items, page, size, totalElements, totalPages }
+  static async filterExpenses(params = {}) {
+    const response = await apiClient.get(API_ENDPOINTS.EXPENSE.FILTER, { params });
+    return response.data;
+  }
+
   static async updateExpense(id, updateData) {
     const response = await apiClient.put(API_ENDPOINTS.EXPENSE.UPDATE(id), updateData);
     return response.data;
@@ -145,6 +157,24 @@ class ApiService {
     return response.data;
   }
 
+  // Dashboard methods
+  static async getDashboardSummary(params = {}) {
+    const response = await apiClient.get(API_ENDPOINTS.DASHBOARD.SUMMARY, { params });
+    return response.data;
+  }
+
+  // params: { cursor, size, sort, kinds } where kinds is e.g. 'expense,income'
+  static async getTransactionFeed(params = {}) {
+    const response = await apiClient.get(API_ENDPOINTS.FEED.PAGE, { params });
+    return response.data;
+  }
+
+  // params: { q, kinds, from, to, limit }
+  static async searchTransactions(params = {}) {
+    const response = await apiClient.get(API_ENDPOINTS.SEARCH.QUERY, { params });
+    return response.data;
+  }
+
   // Generic methods for custom endpoints
   static async get(endpoint, config = {}) {
     const response = await apiClient.get(endpoint, config);
@@ -0,0 +1,14 @@
+// Helpers for /api/dashboard/summary, which returns every total already aggregated by the server.
+import { toIsoDate } from './transactionFilters';
+
+// Amounts arrive as JSON numbers (or are missing when nothing was recorded)
+export const toAmount = (value) => Number(value) || 0;
+
+// { from, to } covering the current calendar month, so the server answers it from the monthly rollups
+export const currentMonthRange = () => {
+  const now = new Date();
+  return {
+    from: toIsoDate(new Date(now.getFullYear(), now.getMonth(), 1)),
+    to: toIsoDate(new Date(now.getFullYear(), now.getMonth() + 1, 0))
+  };
+};
@@ -0,0 +1,65 @@
+// Translates the active filter chips of the Expenses/Income pages into the query parameters of
+// /api/expense/filter and /api/income/filter, so the server does the filtering against its indexes.
+
+// Page size used when fetching filtered records; the server caps it at 200
+export const FILTER_PAGE_SIZE = 100;
+
+// yyyy-mm-dd in local time (toISOString would shift the day in timezones ahead of UTC)
+export const toIsoDate = (date) => {
+  const month = String(date.getMonth() + 1).padStart(2, '0');
+  const day = String(date.getDate()).padStart(2, '0');
+  return `${date.getFullYear()}-${month}-${day}`;
+};
+
+const dateRangeFor = (timePeriod) => {
+  const now = new Date();
+  switch (timePeriod) {
+    case 'thisMonth':
+      return [new Date(now.getFullYear(), now.getMonth(), 1), new Date(now.getFullYear(), now.getMonth() + 1, 0)];
+    case 'lastMonth':
+      return [new Date(now.getFullYear(), now.getMonth() - 1, 1), new Date(now.getFullYear(), now.getMonth(), 0)];
+    case 'last3Months':
+      return [new Date(now.getFullYear(), now.getMonth() - 3, 1), null];
+    case 'last6Months':
+      return [new Date(now.getFullYear(), now.getMonth() - 6, 1), null];
+    case 'thisYear':
+      return [new Date(now.getFullYear(), 0, 1), new Date(now.getFullYear(), 11, 31)];
+    case 'lastYear':
+      return [new Date(now.getFullYear() - 1, 0, 1), new Date(now.getFullYear() - 1, 11, 31)];
+    default:
+      return [null, null];
+  }
+};
+
+export const toFilterParams = (activeFilters, filters) => {
+  const params = {};
+  activeFilters.forEach(filter => {
+    switch (filter.type) {
+      case 'timePeriod':
+        if (filter.value === 'custom') {
+          params.from = filters.dateFrom || undefined;
+          params.to = filters.dateTo || undefined;
+        } else {
+          const [from, to] = dateRangeFor(filter.value);
+          if (from) params.from = toIsoDate(from);
+          if (to) params.to = toIsoDate(to);
+        }
+        break;
+      case 'category':
+      case 'paymentMode':
+        params[filter.type] = filter.value;
+        break;
+      case 'amountRange':
+        // '1000-5000' is inclusive on both ends, '100000+' has no upper bound
+        if (filter.value.endsWith('+')) {
+          params.minAmount = filter.value.slice(0, -1);
+        } else {
+          [params.minAmount, params.maxAmount] = filter.value.split('-');
+        }
+        break;
+      default:
+        break;
+    }
+  });
+  return params;
+};